@@ -10,6 +10,7 @@ import java.util.Objects;
 import javax.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -28,13 +29,17 @@ public class AuthenticationPrincipalArgumentResolver implements HandlerMethodArg
     @Override
     public User resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
         NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
-        String accessToken = AuthorizationExtractor
-            .extract(Objects.requireNonNull(webRequest.getNativeRequest(HttpServletRequest.class)));
+        HttpServletRequest request = Objects.requireNonNull(webRequest.getNativeRequest(HttpServletRequest.class));
+        String accessToken = AuthorizationExtractor.extract(request);
 
         if (Objects.isNull(accessToken) || accessToken.isEmpty() || accessToken.equalsIgnoreCase("UNDEFINED")) {
             return new GuestUser();
         }
 
-        return oAuthService.findSocialLoginUserByAccessToken(accessToken);
+        // 조회 요청은 캐시에서 만든 읽기 전용 유저를, 쓰기 요청은 영속성 컨텍스트의 유저를 쓴다.
+        if (HttpMethod.GET.matches(request.getMethod())) {
+            return oAuthService.findSocialLoginUserByAccessToken(accessToken);
+        }
+        return oAuthService.findManagedSocialLoginUserByAccessToken(accessToken);
     }
 }
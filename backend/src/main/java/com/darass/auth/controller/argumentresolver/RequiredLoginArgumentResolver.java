@@ -9,6 +9,7 @@ import java.util.Objects;
 import javax.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -27,13 +28,16 @@ public class RequiredLoginArgumentResolver implements HandlerMethodArgumentResol
     @Override
     public SocialLoginUser resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
         NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
-        String accessToken = findAccessToken(webRequest);
-        return oAuthService.findSocialLoginUserByAccessToken(accessToken);
+        HttpServletRequest request = Objects.requireNonNull(webRequest.getNativeRequest(HttpServletRequest.class));
+        String accessToken = findAccessToken(request);
+        if (HttpMethod.GET.matches(request.getMethod())) {
+            return oAuthService.findSocialLoginUserByAccessToken(accessToken);
+        }
+        return oAuthService.findManagedSocialLoginUserByAccessToken(accessToken);
     }
 
-    private String findAccessToken(NativeWebRequest webRequest) {
-        String accessToken = AuthorizationExtractor
-            .extract(Objects.requireNonNull(webRequest.getNativeRequest(HttpServletRequest.class)));
+    private String findAccessToken(HttpServletRequest request) {
+        String accessToken = AuthorizationExtractor.extract(request);
 
         if (Objects.isNull(accessToken) || accessToken.isEmpty() || accessToken.equalsIgnoreCase("UNDEFINED")) {
             throw ExceptionWithMessageAndCode.NOT_EXISTS_ACCESS_TOKEN.getException();
@@ -14,6 +14,9 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtTokenProvider {
 
+    private static final String TOKEN_TYPE = "type";
+    private static final String STREAM_TOKEN_TYPE = "stream";
+
     @Value("${security.jwt.access-token.secret-key}")
     private String secretKeyOfAccessToken;
 
@@ -26,6 +29,9 @@ public class JwtTokenProvider {
     @Value("${security.jwt.refresh-token.expire-length}")
     private long validityInMillisecondsOfRefreshToken;
 
+    @Value("${security.jwt.stream-token.expire-length:60000}")
+    private long validityInMillisecondsOfStreamToken;
+
     public String createAccessToken(SocialLoginUser socialLoginUser) {
         if (isValidateToken(socialLoginUser.getAccessToken(), secretKeyOfAccessToken)) {
             return socialLoginUser.getAccessToken();
@@ -54,6 +60,24 @@ public class JwtTokenProvider {
         return refreshToken;
     }
 
+    // 헤더를 보낼 수 없는 EventSource가 쿼리로 넘기는 토큰이라 짧게만 살리고, 종류를 적어 액세스 토큰과 구분한다.
+    public String createStreamToken(SocialLoginUser socialLoginUser) {
+        Claims claims = Jwts.claims().setSubject(socialLoginUser.getId().toString());
+        claims.put(TOKEN_TYPE, STREAM_TOKEN_TYPE);
+        Date now = new Date();
+        Date validity = new Date(now.getTime() + validityInMillisecondsOfStreamToken);
+
+        return createJwtToken(claims, now, validity, secretKeyOfAccessToken);
+    }
+
+    public Long getStreamTokenSubject(String streamToken) {
+        Claims claims = getAccessTokenClaims(streamToken);
+        if (!STREAM_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE))) {
+            throw ExceptionWithMessageAndCode.INVALID_ACCESS_TOKEN.getException();
+        }
+        return Long.parseLong(claims.getSubject());
+    }
+
     public boolean isValidatedAccessToken(String accessToken) {
         return isValidateToken(accessToken, secretKeyOfAccessToken);
     }
@@ -78,6 +102,14 @@ public class JwtTokenProvider {
         }
     }
 
+    public Claims getAccessTokenClaims(String accessToken) {
+        try {
+            return Jwts.parser().setSigningKey(secretKeyOfAccessToken).parseClaimsJws(accessToken).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw ExceptionWithMessageAndCode.INVALID_ACCESS_TOKEN.getException();
+        }
+    }
+
     private String createJwtToken(Claims claims, Date now, Date validity, String secretKey) {
         return Jwts.builder()
             .setClaims(claims)
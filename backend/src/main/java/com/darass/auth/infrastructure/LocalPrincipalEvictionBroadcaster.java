@@ -0,0 +1,18 @@
+package com.darass.auth.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "websocket.relay.enabled", havingValue = "false", matchIfMissing = true)
+@Component
+public class LocalPrincipalEvictionBroadcaster implements PrincipalEvictionBroadcaster {
+
+    private final VerifiedPrincipalCache verifiedPrincipalCache;
+
+    @Override
+    public void evictByUserId(Long userId) {
+        verifiedPrincipalCache.evictByUserId(userId);
+    }
+}
@@ -0,0 +1,6 @@
+package com.darass.auth.infrastructure;
+
+public interface PrincipalEvictionBroadcaster {
+
+    void evictByUserId(Long userId);
+}
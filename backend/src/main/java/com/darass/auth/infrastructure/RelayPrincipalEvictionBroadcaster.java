@@ -0,0 +1,52 @@
+package com.darass.auth.infrastructure;
+
+import com.darass.common.CacheEvictions;
+import java.nio.charset.StandardCharsets;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 커밋 전에 알리면 다른 서버가 이전 토큰으로 캐시를 다시 채울 수 있으므로, 커밋된 뒤에 알린다.
+@ConditionalOnProperty(name = "websocket.relay.enabled", havingValue = "true")
+@Component
+public class RelayPrincipalEvictionBroadcaster implements PrincipalEvictionBroadcaster {
+
+    private final AmqpTemplate amqpTemplate;
+    private final VerifiedPrincipalCache verifiedPrincipalCache;
+    private final String exchange;
+
+    public RelayPrincipalEvictionBroadcaster(AmqpTemplate amqpTemplate, VerifiedPrincipalCache verifiedPrincipalCache,
+        @Value("${websocket.relay.principal-exchange:darass.principal-eviction}") String exchange) {
+        this.amqpTemplate = amqpTemplate;
+        this.verifiedPrincipalCache = verifiedPrincipalCache;
+        this.exchange = exchange;
+    }
+
+    @Override
+    public void evictByUserId(Long userId) {
+        verifiedPrincipalCache.evictByUserId(userId);
+        CacheEvictions.runAfterCommit(() -> send(userId));
+    }
+
+    @RabbitListener(bindings = @QueueBinding(value = @Queue, exchange = @Exchange(
+        name = "${websocket.relay.principal-exchange:darass.principal-eviction}", type = ExchangeTypes.FANOUT)))
+    public void receive(Message message) {
+        verifiedPrincipalCache.evictByUserId(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+
+    private void send(Long userId) {
+        Message message = MessageBuilder.withBody(String.valueOf(userId).getBytes(StandardCharsets.UTF_8))
+            .setContentType(MessageProperties.CONTENT_TYPE_TEXT_PLAIN)
+            .build();
+        amqpTemplate.send(exchange, "", message);
+    }
+}
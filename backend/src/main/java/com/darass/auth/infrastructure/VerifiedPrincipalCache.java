@@ -0,0 +1,109 @@
+package com.darass.auth.infrastructure;
+
+import com.darass.common.CacheEvictions;
+import com.darass.user.domain.SocialLoginUser;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 토큰 원문 대신 해시를 키로 쓴다. 담아 둔 유저 정보는 읽기 전용 principal을 만드는 데만 쓰고 영속성 컨텍스트에 붙이지 않는다.
+@Component
+public class VerifiedPrincipalCache {
+
+    private final Cache<String, VerifiedPrincipal> principals;
+
+    public VerifiedPrincipalCache(@Value("${security.principal-cache.maximum-size:10000}") long maximumSize) {
+        this.principals = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+    }
+
+    public Optional<Long> findUserId(String accessToken) {
+        return findVerifiedPrincipal(accessToken).map(principal -> principal.userId);
+    }
+
+    public Optional<SocialLoginUser> findPrincipal(String accessToken) {
+        return findVerifiedPrincipal(accessToken).map(VerifiedPrincipal::toSocialLoginUser);
+    }
+
+    public void put(String accessToken, SocialLoginUser socialLoginUser, Date expiration) {
+        principals.put(hash(accessToken), new VerifiedPrincipal(socialLoginUser, expiration));
+    }
+
+    public void evictByUserId(Long userId) {
+        CacheEvictions.evictNowAndAfterTransaction(() ->
+            principals.asMap().values().removeIf(principal -> principal.userId.equals(userId)));
+    }
+
+    public void evictAll() {
+        CacheEvictions.evictNowAndAfterTransaction(principals::invalidateAll);
+    }
+
+    public CacheStats stats() {
+        return principals.stats();
+    }
+
+    private Optional<VerifiedPrincipal> findVerifiedPrincipal(String accessToken) {
+        String key = hash(accessToken);
+        VerifiedPrincipal principal = principals.getIfPresent(key);
+        if (Objects.isNull(principal)) {
+            return Optional.empty();
+        }
+        if (principal.isExpired()) {
+            principals.invalidate(key);
+            return Optional.empty();
+        }
+        return Optional.of(principal);
+    }
+
+    private static String hash(String accessToken) {
+        return Hashing.sha256().hashString(accessToken, StandardCharsets.UTF_8).toString();
+    }
+
+    private static class VerifiedPrincipal {
+
+        private final Long userId;
+        private final String nickName;
+        private final String profileImageUrl;
+        private final String userType;
+        private final String email;
+        private final String oauthId;
+        private final String oauthProvider;
+        private final long expiresAtMillis;
+
+        private VerifiedPrincipal(SocialLoginUser socialLoginUser, Date expiration) {
+            this.userId = socialLoginUser.getId();
+            this.nickName = socialLoginUser.getNickName();
+            this.profileImageUrl = socialLoginUser.getProfileImageUrl();
+            this.userType = socialLoginUser.getUserType();
+            this.email = socialLoginUser.getEmail();
+            this.oauthId = socialLoginUser.getOauthId();
+            this.oauthProvider = socialLoginUser.getOauthProvider();
+            this.expiresAtMillis = expiration.getTime();
+        }
+
+        private SocialLoginUser toSocialLoginUser() {
+            return SocialLoginUser.builder()
+                .id(userId)
+                .nickName(nickName)
+                .profileImageUrl(profileImageUrl)
+                .userType(userType)
+                .email(email)
+                .oauthId(oauthId)
+                .oauthProvider(oauthProvider)
+                .build();
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAtMillis;
+        }
+    }
+}
@@ -6,10 +6,15 @@ import com.darass.auth.dto.AccessTokenResponse;
 import com.darass.auth.dto.TokenRequest;
 import com.darass.auth.dto.TokenResponse;
 import com.darass.auth.infrastructure.JwtTokenProvider;
+import com.darass.auth.infrastructure.PrincipalEvictionBroadcaster;
+import com.darass.auth.infrastructure.VerifiedPrincipalCache;
 import com.darass.exception.ExceptionWithMessageAndCode;
 import com.darass.user.domain.SocialLoginUser;
 import com.darass.user.repository.SocialLoginUserRepository;
+import io.jsonwebtoken.Claims;
+import java.util.Objects;
 import java.util.Optional;
+import javax.persistence.EntityManager;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +30,12 @@ public class OAuthService {
 
     private final OAuthProviderFactory oAuthProviderFactory;
 
+    private final VerifiedPrincipalCache verifiedPrincipalCache;
+
+    private final PrincipalEvictionBroadcaster principalEvictionBroadcaster;
+
+    private final EntityManager entityManager;
+
     public TokenResponse oauthLogin(TokenRequest tokenRequest) {
         OAuthProvider oAuthProvider = oAuthProviderFactory.getOAuthProvider(tokenRequest.getOauthProviderName());
         SocialLoginUser responseSocialLoginUser = oAuthProvider.requestSocialLoginUser(tokenRequest.getAuthorizationCode());
@@ -41,20 +52,48 @@ public class OAuthService {
     }
 
     public SocialLoginUser findSocialLoginUserByAccessToken(String accessToken) {
-        jwtTokenProvider.validateAccessToken(accessToken);
-        String userId = jwtTokenProvider.getAccessTokenPayload(accessToken);
+        return verifiedPrincipalCache.findPrincipal(accessToken)
+            .orElseGet(() -> verifySocialLoginUser(accessToken));
+    }
+
+    public SocialLoginUser findManagedSocialLoginUserByAccessToken(String accessToken) {
+        return verifiedPrincipalCache.findUserId(accessToken)
+            .map(this::getReference)
+            .orElseGet(() -> verifySocialLoginUser(accessToken));
+    }
+
+    private SocialLoginUser verifySocialLoginUser(String accessToken) {
+        Claims claims = jwtTokenProvider.getAccessTokenClaims(accessToken);
 
-        Optional<SocialLoginUser> socialLoginUserAble = socialLoginUserRepository.findById(Long.parseLong(userId));
+        Optional<SocialLoginUser> socialLoginUserAble = socialLoginUserRepository
+            .findById(Long.parseLong(claims.getSubject()));
         if (socialLoginUserAble.isPresent()) {
             SocialLoginUser socialLoginUser = socialLoginUserAble.get();
 
             if (socialLoginUser.isSameAccessToken(accessToken)) {
+                verifiedPrincipalCache.put(accessToken, socialLoginUser, claims.getExpiration());
                 return socialLoginUser;
             }
         }
         throw ExceptionWithMessageAndCode.INVALID_JWT_NOT_FOUND_USER_TOKEN.getException();
     }
 
+    public String createStreamToken(SocialLoginUser socialLoginUser) {
+        return jwtTokenProvider.createStreamToken(socialLoginUser);
+    }
+
+    public SocialLoginUser findSocialLoginUserByStreamToken(String streamToken) {
+        Long userId = jwtTokenProvider.getStreamTokenSubject(streamToken);
+        return socialLoginUserRepository.findById(userId)
+            .filter(socialLoginUser -> Objects.nonNull(socialLoginUser.getAccessToken()))
+            .orElseThrow(ExceptionWithMessageAndCode.INVALID_JWT_NOT_FOUND_USER_TOKEN::getException);
+    }
+
+    // 쓰기 요청은 캐시의 스냅샷 대신 현재 영속성 컨텍스트의 참조를 써서, 오래된 값을 다시 저장하지 않는다.
+    private SocialLoginUser getReference(Long userId) {
+        return entityManager.getReference(SocialLoginUser.class, userId);
+    }
+
     public AccessTokenResponse getAccessTokenWithRefreshToken(String refreshToken) {
         jwtTokenProvider.validateRefreshToken(refreshToken);
 
@@ -63,6 +102,7 @@ public class OAuthService {
             SocialLoginUser socialLoginUser = socialLoginUserAble.get();
 
             if (socialLoginUser.isSameRefreshToken(refreshToken)) {
+                principalEvictionBroadcaster.evictByUserId(socialLoginUser.getId());
                 String accessToken = jwtTokenProvider.createAccessToken(socialLoginUser);
                 socialLoginUser.updateAccessToken(accessToken);
                 return new AccessTokenResponse(accessToken);
@@ -72,6 +112,7 @@ public class OAuthService {
     }
 
     public void logOut(SocialLoginUser socialLoginUser) {
+        principalEvictionBroadcaster.evictByUserId(socialLoginUser.getId());
         socialLoginUser.deleteAccessToken();
         socialLoginUser.deleteRefreshToken();
     }
@@ -2,23 +2,37 @@ package com.darass.comment.controller;
 
 import com.darass.auth.domain.AuthenticationPrincipal;
 import com.darass.auth.domain.RequiredLogin;
+import com.darass.comment.dto.CommentCountRequestInProject;
+import com.darass.comment.dto.CommentCountResponse;
 import com.darass.comment.dto.CommentCreateRequest;
+import com.darass.comment.dto.CommentCursorResponses;
 import com.darass.comment.dto.CommentDeleteRequest;
+import com.darass.comment.dto.CommentLikeReadRequestByPagination;
+import com.darass.comment.dto.CommentLikeResponses;
 import com.darass.comment.dto.CommentReadRequest;
+import com.darass.comment.dto.CommentReadRequestByCursor;
 import com.darass.comment.dto.CommentReadRequestByPagination;
 import com.darass.comment.dto.CommentReadRequestBySearch;
 import com.darass.comment.dto.CommentReadRequestInProject;
 import com.darass.comment.dto.CommentReadSecretCommentRequest;
 import com.darass.comment.dto.CommentResponse;
 import com.darass.comment.dto.CommentResponses;
+import com.darass.comment.dto.CommentResponsesWriter;
 import com.darass.comment.dto.CommentStatRequest;
 import com.darass.comment.dto.CommentStatResponse;
 import com.darass.comment.dto.CommentUpdateRequest;
+import com.darass.comment.dto.SubCommentCursorResponses;
+import com.darass.comment.dto.SubCommentReadRequestByCursor;
 import com.darass.comment.service.CommentService;
 import com.darass.user.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Objects;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -29,6 +43,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RequiredArgsConstructor
 @RequestMapping("/api/v1")
@@ -36,22 +52,85 @@ import org.springframework.web.bind.annotation.RestController;
 public class CommentController {
 
     private final CommentService commentService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/comments")
-    public ResponseEntity<CommentResponses> read(@AuthenticationPrincipal User user, @ModelAttribute CommentReadRequest commentReadRequest) {
+    public ResponseEntity<CommentResponses> read(@AuthenticationPrincipal User user,
+        @ModelAttribute CommentReadRequest commentReadRequest, ServletWebRequest webRequest) {
+        String eTag = commentService
+            .findThreadETag(user, commentReadRequest.getProjectKey(), commentReadRequest.getUrl());
+        if (checkNotModified(webRequest, eTag)) {
+            return null;
+        }
         CommentResponses commentResponses = commentService
             .findAllCommentsByUrlAndProjectKey(user, commentReadRequest);
         return ResponseEntity.status(HttpStatus.OK).body(commentResponses);
     }
 
+    @GetMapping(value = "/comments", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> readAsStream(@AuthenticationPrincipal User user,
+        @ModelAttribute CommentReadRequest commentReadRequest, ServletWebRequest webRequest) {
+        String eTag = commentService
+            .findThreadETag(user, commentReadRequest.getProjectKey(), commentReadRequest.getUrl());
+        if (checkNotModified(webRequest, eTag)) {
+            return null;
+        }
+        return ResponseEntity.status(HttpStatus.OK)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(outputStream -> commentService.writeAllCommentsByUrlAndProjectKey(user, commentReadRequest,
+                new CommentResponsesWriter(objectMapper, outputStream)));
+    }
+
     @GetMapping("/comments/paging")
-    public ResponseEntity<CommentResponses> readByPageRequest(
-        @ModelAttribute CommentReadRequestByPagination commentReadRequestByPagination) {
+    public ResponseEntity<CommentResponses> readByPageRequest(@AuthenticationPrincipal User user,
+        @ModelAttribute CommentReadRequestByPagination commentReadRequestByPagination, ServletWebRequest webRequest) {
+        String eTag = commentService.findThreadETag(user, commentReadRequestByPagination.getProjectKey(),
+            commentReadRequestByPagination.getUrl());
+        if (checkNotModified(webRequest, eTag)) {
+            return null;
+        }
         CommentResponses commentResponses = commentService
-            .findAllCommentsByUrlAndProjectKeyUsingPagination(commentReadRequestByPagination);
+            .findAllCommentsByUrlAndProjectKeyUsingPagination(user, commentReadRequestByPagination);
         return ResponseEntity.status(HttpStatus.OK).body(commentResponses);
     }
 
+    @GetMapping(value = "/comments/paging", params = "cursor")
+    public ResponseEntity<CommentCursorResponses> readByCursor(@AuthenticationPrincipal User user,
+        @ModelAttribute CommentReadRequestByCursor commentReadRequestByCursor, ServletWebRequest webRequest) {
+        String eTag = commentService.findThreadETag(user, commentReadRequestByCursor.getProjectKey(),
+            commentReadRequestByCursor.getUrl());
+        if (checkNotModified(webRequest, eTag)) {
+            return null;
+        }
+        CommentCursorResponses commentCursorResponses = commentService
+            .findAllCommentsByUrlAndProjectKeyUsingCursor(user, commentReadRequestByCursor);
+        return ResponseEntity.status(HttpStatus.OK).body(commentCursorResponses);
+    }
+
+    @GetMapping("/comments/{id}/sub-comments")
+    public ResponseEntity<SubCommentCursorResponses> readSubComments(@PathVariable("id") Long id,
+        @AuthenticationPrincipal User user, @ModelAttribute SubCommentReadRequestByCursor subCommentReadRequestByCursor) {
+        SubCommentCursorResponses subCommentCursorResponses = commentService
+            .findSubCommentsUsingCursor(id, user, subCommentReadRequestByCursor);
+        return ResponseEntity.status(HttpStatus.OK).body(subCommentCursorResponses);
+    }
+
+    @GetMapping("/comments/{id}/likes")
+    public ResponseEntity<CommentLikeResponses> readLikingUsers(@PathVariable("id") Long id,
+        @ModelAttribute CommentLikeReadRequestByPagination commentLikeReadRequestByPagination) {
+        CommentLikeResponses commentLikeResponses = commentService
+            .findLikingUsers(id, commentLikeReadRequestByPagination);
+        return ResponseEntity.status(HttpStatus.OK).body(commentLikeResponses);
+    }
+
+    @GetMapping("/comments/count")
+    public ResponseEntity<List<CommentCountResponse>> count(
+        @ModelAttribute CommentCountRequestInProject commentCountRequestInProject) {
+        List<CommentCountResponse> commentCountResponses = commentService
+            .countCommentsByUrls(commentCountRequestInProject);
+        return ResponseEntity.status(HttpStatus.OK).body(commentCountResponses);
+    }
+
     @GetMapping("/projects/comments/search/paging")
     public ResponseEntity<CommentResponses> readByPageRequestUsingSearch(
         @ModelAttribute CommentReadRequestBySearch CommentReadRequestBySearch) {
@@ -68,6 +147,15 @@ public class CommentController {
         return ResponseEntity.status(HttpStatus.OK).body(commentResponses);
     }
 
+    @GetMapping(value = "/projects/comments/paging", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> readByPageRequestInProjectAsStream(
+        @ModelAttribute CommentReadRequestInProject commentReadRequestInProject) {
+        return ResponseEntity.status(HttpStatus.OK)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(outputStream -> commentService.writeAllCommentsInProject(commentReadRequestInProject,
+                new CommentResponsesWriter(objectMapper, outputStream)));
+    }
+
     @GetMapping("/comments/stat")
     public ResponseEntity<CommentStatResponse> giveStat(@ModelAttribute CommentStatRequest commentStatRequest) {
         return ResponseEntity.status(HttpStatus.OK).body(commentService.giveStat(commentStatRequest));
@@ -105,4 +193,12 @@ public class CommentController {
         commentService.toggleLike(id, user);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
-}
\ No newline at end of file
+
+    private boolean checkNotModified(ServletWebRequest webRequest, String eTag) {
+        if (Objects.isNull(eTag)) {
+            return false;
+        }
+        Objects.requireNonNull(webRequest.getResponse()).setHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        return webRequest.checkNotModified(eTag);
+    }
+}
@@ -12,28 +12,34 @@ import com.darass.user.domain.User;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.ForeignKey;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 import javax.persistence.Transient;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
-import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 @Getter
 @NoArgsConstructor
 @Entity
+@Table(indexes = {
+    @Index(name = "comment_idx_project_url_parent_like_count", columnList = "project_id, url, parent_id, like_count, id"),
+    @Index(name = "comment_idx_project_url_parent", columnList = "project_id, url, parent_id, id")
+})
 @ToString
 public class Comment extends BaseTimeEntity {
 
@@ -78,9 +84,12 @@ public class Comment extends BaseTimeEntity {
     @Transient
     private boolean readable = true;
 
-    @Formula("(select count(*) from comment_like where comment_like.comment_id=id)")
+    @Column(insertable = false, updatable = false, columnDefinition = "integer default 0 not null")
     private int likeCount;
 
+    @Column(insertable = false, updatable = false, columnDefinition = "integer default 0 not null")
+    private int replyCount;
+
     @Builder
     public Comment(Long id, User user, Project project, String url, String content, Comment parent, boolean secret) {
         validateContentLength(content);
@@ -129,7 +138,9 @@ public class Comment extends BaseTimeEntity {
             .findAny()
             .orElseGet(CommentLike::new);
 
-        this.commentLikes.remove(commentLike);
+        if (this.commentLikes.remove(commentLike)) {
+            this.likeCount--;
+        }
     }
 
     public void deleteSubComment(Long id) {
@@ -138,6 +149,7 @@ public class Comment extends BaseTimeEntity {
 
     public void addCommentLike(CommentLike commentLike) {
         this.commentLikes.add(commentLike);
+        this.likeCount++;
     }
 
     public boolean isSubComment() {
@@ -149,7 +161,7 @@ public class Comment extends BaseTimeEntity {
     }
 
     public int getSubCommentSize() {
-        return subComments.size();
+        return replyCount;
     }
 
     private void validateContentLength(String content) {
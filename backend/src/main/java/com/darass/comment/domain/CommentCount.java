@@ -0,0 +1,19 @@
+package com.darass.comment.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CommentCount {
+
+    private final String url;
+
+    private final Long rootCount;
+
+    private final Long replyCount;
+
+    public static CommentCount empty(String url) {
+        return new CommentCount(url, 0L, 0L);
+    }
+}
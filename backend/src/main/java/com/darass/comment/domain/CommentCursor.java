@@ -0,0 +1,51 @@
+package com.darass.comment.domain;
+
+import com.darass.exception.ExceptionWithMessageAndCode;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CommentCursor {
+
+    private static final String DELIMITER = ":";
+
+    private final int likeCount;
+    private final long id;
+
+    public static CommentCursor of(Comment comment) {
+        return new CommentCursor(comment.getLikeCount(), comment.getId());
+    }
+
+    public static CommentCursor first(SortOption sortOption) {
+        if (sortOption == SortOption.LATEST) {
+            return new CommentCursor(Integer.MAX_VALUE, Long.MAX_VALUE);
+        }
+        if (sortOption == SortOption.LIKE) {
+            return new CommentCursor(Integer.MAX_VALUE, 0L);
+        }
+        return new CommentCursor(0, 0L);
+    }
+
+    public static CommentCursor decode(String cursor, SortOption sortOption) {
+        if (Objects.isNull(cursor) || cursor.isBlank()) {
+            return first(sortOption);
+        }
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split(DELIMITER);
+            return new CommentCursor(Integer.parseInt(values[0]), Long.parseLong(values[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw ExceptionWithMessageAndCode.INVALID_CURSOR.getException();
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString((likeCount + DELIMITER + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
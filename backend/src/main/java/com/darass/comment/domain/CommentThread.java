@@ -0,0 +1,62 @@
+package com.darass.comment.domain;
+
+import com.darass.user.domain.User;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class CommentThread {
+
+    private final List<Comment> comments;
+    private final Map<Long, List<Comment>> subComments;
+    private final Map<Long, List<CommentLike>> commentLikes;
+
+    public CommentThread(List<Comment> comments, List<Comment> subComments, List<CommentLike> commentLikes) {
+        this.comments = comments;
+        this.subComments = subComments.stream()
+            .collect(Collectors.groupingBy(subComment -> subComment.getParent().getId()));
+        this.commentLikes = commentLikes.stream()
+            .collect(Collectors.groupingBy(commentLike -> commentLike.getComment().getId()));
+    }
+
+    public List<Comment> findSubComments(Comment comment) {
+        return subComments.getOrDefault(comment.getId(), Collections.emptyList());
+    }
+
+    public boolean hasMoreSubComments(Comment comment) {
+        return comment.getSubCommentSize() > findSubComments(comment).size();
+    }
+
+    public String findNextSubCommentCursor(Comment comment) {
+        if (!hasMoreSubComments(comment)) {
+            return null;
+        }
+        List<Comment> subComments = findSubComments(comment);
+        if (subComments.isEmpty()) {
+            return CommentCursor.first(SortOption.OTHER).encode();
+        }
+        return CommentCursor.of(subComments.get(subComments.size() - 1)).encode();
+    }
+
+    public List<User> findLikingUsers(Comment comment) {
+        return commentLikes.getOrDefault(comment.getId(), Collections.emptyList()).stream()
+            .map(CommentLike::getUser)
+            .collect(Collectors.toList());
+    }
+
+    public long totalCommentWithSubComment() {
+        return comments.size() + totalSubComment();
+    }
+
+    public long totalSubComment() {
+        return comments.stream()
+            .mapToInt(Comment::getSubCommentSize)
+            .sum();
+    }
+
+    public List<Comment> getComments() {
+        return new ArrayList<>(comments);
+    }
+}
@@ -0,0 +1,5 @@
+package com.darass.comment.domain;
+
+public enum CommentThreadEventType {
+    CREATE, UPDATE, DELETE, LIKE_COUNT
+}
@@ -0,0 +1,36 @@
+package com.darass.comment.domain;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(uniqueConstraints = {
+    @UniqueConstraint(name = "comment_thread_version_uk_project_url", columnNames = {"project_id", "url"})
+})
+public class CommentThreadVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long projectId;
+
+    private String url;
+
+    private long version;
+
+    @Builder
+    public CommentThreadVersion(Long projectId, String url) {
+        this.projectId = projectId;
+        this.url = url;
+    }
+}
@@ -0,0 +1,24 @@
+package com.darass.comment.domain;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+
+public enum LikeView {
+    FULL,
+    COMPACT;
+
+    public static LikeView find(String likeView) {
+        if (Objects.isNull(likeView)) {
+            return COMPACT;
+        }
+        return Arrays.stream(values())
+            .filter(value -> value.name().equals(likeView.toUpperCase(Locale.ROOT)))
+            .findAny()
+            .orElse(COMPACT);
+    }
+
+    public boolean isCompact() {
+        return this == COMPACT;
+    }
+}
@@ -18,13 +18,16 @@ public enum SortOption {
     private final Sort sort;
 
     public static Sort getMatchedSort(String sorting) {
+        return find(sorting).sort;
+    }
+
+    public static SortOption find(String sorting) {
         if (Objects.isNull(sorting)) {
-            return OTHER.sort;
+            return OTHER;
         }
         return Arrays.stream(values())
             .filter(sortOption -> sortOption.name().equals(sorting.toUpperCase(Locale.ROOT)))
             .findAny()
-            .orElse(OTHER)
-            .sort;
+            .orElse(OTHER);
     }
 }
@@ -1,5 +1,6 @@
 package com.darass.comment.dto;
 
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -8,4 +9,5 @@ import lombok.Getter;
 public class CommentCountRequestInProject {
 
     private String projectKey;
+    private List<String> urls;
 }
@@ -1,11 +1,22 @@
 package com.darass.comment.dto;
 
+import com.darass.comment.domain.CommentCount;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @AllArgsConstructor
+@NoArgsConstructor
 public class CommentCountResponse {
 
+    private String url;
     private Long count;
+    private Long rootCount;
+    private Long replyCount;
+
+    public static CommentCountResponse of(CommentCount commentCount) {
+        return new CommentCountResponse(commentCount.getUrl(), commentCount.getRootCount() + commentCount.getReplyCount(),
+            commentCount.getRootCount(), commentCount.getReplyCount());
+    }
 }
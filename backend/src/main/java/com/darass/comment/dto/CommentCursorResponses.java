@@ -0,0 +1,16 @@
+package com.darass.comment.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentCursorResponses {
+
+    private Long totalComment;
+    private String nextCursor;
+    private List<CommentResponse> comments;
+}
@@ -0,0 +1,12 @@
+package com.darass.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CommentLikeReadRequestByPagination {
+
+    private Integer page;
+    private Integer size;
+}
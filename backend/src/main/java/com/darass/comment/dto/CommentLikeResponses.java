@@ -0,0 +1,17 @@
+package com.darass.comment.dto;
+
+import com.darass.user.dto.UserResponse;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentLikeResponses {
+
+    private Long totalLike;
+    private Integer totalPage;
+    private List<UserResponse> likingUsers;
+}
@@ -10,4 +10,6 @@ public class CommentReadRequest {
     private String sortOption;
     private String url;
     private String projectKey;
+    private String likeView;
+    private boolean normalizeUsers;
 }
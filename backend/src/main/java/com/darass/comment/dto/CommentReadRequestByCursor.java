@@ -0,0 +1,17 @@
+package com.darass.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CommentReadRequestByCursor {
+
+    private String sortOption;
+    private String url;
+    private String projectKey;
+    private String cursor;
+    private Integer size;
+    private boolean includeTotal;
+    private String likeView;
+}
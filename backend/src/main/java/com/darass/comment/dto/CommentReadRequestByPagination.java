@@ -12,4 +12,6 @@ public class CommentReadRequestByPagination {
     private String projectKey;
     private Integer page;
     private Integer size;
+    private String likeView;
+    private boolean normalizeUsers;
 }
@@ -2,17 +2,27 @@ package com.darass.comment.dto;
 
 import com.darass.comment.domain.Comment;
 import com.darass.comment.domain.CommentLike;
+import com.darass.comment.domain.CommentThread;
+import com.darass.comment.domain.LikeView;
 import com.darass.user.dto.UserResponse;
+import com.darass.user.dto.UserResponsePool;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 public class CommentResponse {
@@ -33,16 +43,104 @@ public class CommentResponse {
     @JsonDeserialize(using = LocalDateTimeDeserializer.class)
     private LocalDateTime modifiedDate;
 
+    @JsonInclude(Include.NON_NULL)
     private List<UserResponse> likingUsers;
 
+    @JsonInclude(Include.NON_NULL)
     private UserResponse user;
 
     private List<SubCommentResponse> subComments;
 
+    @JsonInclude(Include.NON_NULL)
+    private Integer subCommentCount;
+
+    @JsonInclude(Include.NON_NULL)
+    private String nextSubCommentCursor;
+
+    @JsonInclude(Include.NON_NULL)
+    private Integer likeCount;
+
+    @JsonInclude(Include.NON_NULL)
+    private Boolean likedByMe;
+
+    @JsonInclude(Include.NON_NULL)
+    private Long userId;
+
+    @JsonInclude(Include.NON_NULL)
+    private List<Long> likingUserIds;
+
     public static CommentResponse of(Comment comment, UserResponse userResponse) {
         return new CommentResponse(comment.getId(), comment.getContent(), comment.getUrl(), comment.isSecret(), comment.isReadable(),
             comment.getCreatedDate(), comment.getModifiedDate(), parseLikingUser(comment.getCommentLikes()), userResponse,
-            SubCommentResponse.of(comment.getSubComments()));
+            SubCommentResponse.of(comment.getSubComments()), null, null, null, null, null, null);
+    }
+
+    public static CommentResponse of(Comment comment, CommentThread commentThread, LikeView likeView,
+        UserResponsePool userResponsePool) {
+        CommentResponseBuilder builder = CommentResponse.builder()
+            .id(comment.getId())
+            .content(comment.getContent())
+            .url(comment.getUrl())
+            .secret(comment.isSecret())
+            .readable(comment.isReadable())
+            .createdDate(comment.getCreatedDate())
+            .modifiedDate(comment.getModifiedDate())
+            .user(userResponsePool.get(comment.getUser()))
+            .subComments(SubCommentResponse.of(commentThread.findSubComments(comment), commentThread, likeView,
+                userResponsePool))
+            .subCommentCount(comment.getSubCommentSize())
+            .nextSubCommentCursor(commentThread.findNextSubCommentCursor(comment));
+        if (likeView.isCompact()) {
+            return builder.likeCount(comment.getLikeCount())
+                .likedByMe(false)
+                .build();
+        }
+        return builder.likingUsers(commentThread.findLikingUsers(comment).stream()
+                .map(userResponsePool::get)
+                .collect(Collectors.toList()))
+            .build();
+    }
+
+    public CommentResponse hideSecretComments() {
+        return toBuilder()
+            .readable(readable && !secret)
+            .subComments(subComments.stream()
+                .map(SubCommentResponse::hideSecretComment)
+                .collect(Collectors.toList()))
+            .build();
+    }
+
+    public CommentResponse checkLikedBy(Set<Long> likedCommentIds) {
+        if (Objects.isNull(likeCount)) {
+            return this;
+        }
+        return toBuilder()
+            .likedByMe(likedCommentIds.contains(id))
+            .subComments(subComments.stream()
+                .map(subComment -> subComment.checkLikedBy(likedCommentIds))
+                .collect(Collectors.toList()))
+            .build();
+    }
+
+    public CommentResponse normalizeUsers(UserResponsePool userResponsePool) {
+        CommentResponseBuilder builder = toBuilder()
+            .user(null)
+            .userId(userResponsePool.get(user).getId())
+            .likingUsers(null)
+            .subComments(subComments.stream()
+                .map(subComment -> subComment.normalizeUsers(userResponsePool))
+                .collect(Collectors.toList()));
+        if (Objects.nonNull(likingUsers)) {
+            builder.likingUserIds(likingUsers.stream()
+                .map(likingUser -> userResponsePool.get(likingUser).getId())
+                .collect(Collectors.toList()));
+        }
+        return builder.build();
+    }
+
+    public List<Long> findCommentIds() {
+        return Stream.concat(Stream.of(id), subComments.stream().map(SubCommentResponse::getId))
+            .collect(Collectors.toList());
     }
 
     private static List<UserResponse> parseLikingUser(List<CommentLike> users) {
@@ -1,6 +1,12 @@
 package com.darass.comment.dto;
 
+import com.darass.user.dto.UserResponse;
+import com.darass.user.dto.UserResponsePool;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,4 +19,19 @@ public class CommentResponses {
     private Long totalComment;
     private Integer totalPage;
     private List<CommentResponse> comments;
+
+    @JsonInclude(Include.NON_NULL)
+    private Map<Long, UserResponse> users;
+
+    public CommentResponses(Long totalComment, Integer totalPage, List<CommentResponse> comments) {
+        this(totalComment, totalPage, comments, null);
+    }
+
+    public CommentResponses normalizeUsers() {
+        UserResponsePool userResponsePool = new UserResponsePool();
+        List<CommentResponse> normalizedComments = comments.stream()
+            .map(comment -> comment.normalizeUsers(userResponsePool))
+            .collect(Collectors.toList());
+        return new CommentResponses(totalComment, totalPage, normalizedComments, userResponsePool.toMap());
+    }
 }
@@ -0,0 +1,54 @@
+package com.darass.comment.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+public class CommentResponsesWriter {
+
+    private final JsonGenerator jsonGenerator;
+
+    public CommentResponsesWriter(ObjectMapper objectMapper, OutputStream outputStream) {
+        try {
+            this.jsonGenerator = objectMapper.getFactory().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void writeStart(Long totalComment, Integer totalPage) {
+        try {
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeNumberField("totalComment", totalComment);
+            jsonGenerator.writeNumberField("totalPage", totalPage);
+            jsonGenerator.writeArrayFieldStart("comments");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void write(List<CommentResponse> comments) {
+        try {
+            for (CommentResponse comment : comments) {
+                jsonGenerator.writeObject(comment);
+            }
+            jsonGenerator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void writeEnd() {
+        try {
+            jsonGenerator.writeEndArray();
+            jsonGenerator.writeEndObject();
+            jsonGenerator.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
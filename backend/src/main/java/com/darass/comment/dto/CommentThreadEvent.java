@@ -0,0 +1,37 @@
+package com.darass.comment.dto;
+
+import com.darass.comment.domain.Comment;
+import com.darass.comment.domain.CommentThreadEventType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(Include.NON_NULL)
+public class CommentThreadEvent {
+
+    private CommentThreadEventType type;
+    private Long commentId;
+    private Long parentId;
+    private Integer likeCount;
+
+    public static CommentThreadEvent of(CommentThreadEventType type, Comment comment) {
+        return new CommentThreadEvent(type, comment.getId(), findParentId(comment), null);
+    }
+
+    public static CommentThreadEvent ofLikeCount(Comment comment, int likeCount) {
+        return new CommentThreadEvent(CommentThreadEventType.LIKE_COUNT, comment.getId(), findParentId(comment),
+            likeCount);
+    }
+
+    private static Long findParentId(Comment comment) {
+        if (!comment.isSubComment()) {
+            return null;
+        }
+        return comment.getParent().getId();
+    }
+}
@@ -0,0 +1,16 @@
+package com.darass.comment.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SubCommentCursorResponses {
+
+    private Integer subCommentCount;
+    private String nextCursor;
+    private List<SubCommentResponse> subComments;
+}
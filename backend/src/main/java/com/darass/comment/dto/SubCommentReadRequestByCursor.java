@@ -0,0 +1,13 @@
+package com.darass.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SubCommentReadRequestByCursor {
+
+    private String cursor;
+    private Integer size;
+    private String likeView;
+}
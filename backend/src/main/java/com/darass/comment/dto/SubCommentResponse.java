@@ -2,17 +2,26 @@ package com.darass.comment.dto;
 
 import com.darass.comment.domain.Comment;
 import com.darass.comment.domain.CommentLike;
+import com.darass.comment.domain.CommentThread;
+import com.darass.comment.domain.LikeView;
 import com.darass.user.dto.UserResponse;
+import com.darass.user.dto.UserResponsePool;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 public class SubCommentResponse {
@@ -33,13 +42,28 @@ public class SubCommentResponse {
     @JsonDeserialize(using = LocalDateTimeDeserializer.class)
     private LocalDateTime modifiedDate;
 
+    @JsonInclude(Include.NON_NULL)
     private List<UserResponse> likingUsers;
 
+    @JsonInclude(Include.NON_NULL)
     private UserResponse user;
 
+    @JsonInclude(Include.NON_NULL)
+    private Integer likeCount;
+
+    @JsonInclude(Include.NON_NULL)
+    private Boolean likedByMe;
+
+    @JsonInclude(Include.NON_NULL)
+    private Long userId;
+
+    @JsonInclude(Include.NON_NULL)
+    private List<Long> likingUserIds;
+
     public static SubCommentResponse of(Comment comment, UserResponse userResponse) {
         return new SubCommentResponse(comment.getId(), comment.getContent(), comment.getUrl(), comment.isSecret(), comment.isReadable(),
-            comment.getCreatedDate(), comment.getModifiedDate(), parseLikingUser(comment.getCommentLikes()), userResponse);
+            comment.getCreatedDate(), comment.getModifiedDate(), parseLikingUser(comment.getCommentLikes()), userResponse,
+            null, null, null, null);
     }
 
     private static List<UserResponse> parseLikingUser(List<CommentLike> users) {
@@ -53,4 +77,61 @@ public class SubCommentResponse {
             .map(it -> SubCommentResponse.of(it, UserResponse.of(it.getUser())))
             .collect(Collectors.toList());
     }
+
+    public static List<SubCommentResponse> of(List<Comment> subComments, CommentThread commentThread, LikeView likeView,
+        UserResponsePool userResponsePool) {
+        return subComments.stream()
+            .map(it -> of(it, commentThread, likeView, userResponsePool))
+            .collect(Collectors.toList());
+    }
+
+    private static SubCommentResponse of(Comment comment, CommentThread commentThread, LikeView likeView,
+        UserResponsePool userResponsePool) {
+        SubCommentResponseBuilder builder = SubCommentResponse.builder()
+            .id(comment.getId())
+            .content(comment.getContent())
+            .url(comment.getUrl())
+            .secret(comment.isSecret())
+            .readable(comment.isReadable())
+            .createdDate(comment.getCreatedDate())
+            .modifiedDate(comment.getModifiedDate())
+            .user(userResponsePool.get(comment.getUser()));
+        if (likeView.isCompact()) {
+            return builder.likeCount(comment.getLikeCount())
+                .likedByMe(false)
+                .build();
+        }
+        return builder.likingUsers(commentThread.findLikingUsers(comment).stream()
+                .map(userResponsePool::get)
+                .collect(Collectors.toList()))
+            .build();
+    }
+
+    public SubCommentResponse hideSecretComment() {
+        return toBuilder()
+            .readable(readable && !secret)
+            .build();
+    }
+
+    public SubCommentResponse checkLikedBy(Set<Long> likedCommentIds) {
+        if (Objects.isNull(likeCount)) {
+            return this;
+        }
+        return toBuilder()
+            .likedByMe(likedCommentIds.contains(id))
+            .build();
+    }
+
+    public SubCommentResponse normalizeUsers(UserResponsePool userResponsePool) {
+        SubCommentResponseBuilder builder = toBuilder()
+            .user(null)
+            .userId(userResponsePool.get(user).getId())
+            .likingUsers(null);
+        if (Objects.nonNull(likingUsers)) {
+            builder.likingUserIds(likingUsers.stream()
+                .map(likingUser -> userResponsePool.get(likingUser).getId())
+                .collect(Collectors.toList()));
+        }
+        return builder.build();
+    }
 }
@@ -0,0 +1,42 @@
+package com.darass.comment.infrastructure;
+
+import com.darass.comment.dto.CommentResponse;
+import com.darass.comment.dto.CommentResponses;
+import com.darass.user.domain.User;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CachedCommentThread {
+
+    private final Long adminUserId;
+    private final long totalComment;
+    private final List<CommentResponse> comments;
+
+    public CommentResponses toResponses(User commentReadUser, Set<Long> likedCommentIds) {
+        return new CommentResponses(totalComment, 1, comments.stream()
+            .map(comment -> comment.checkLikedBy(likedCommentIds))
+            .map(comment -> hideSecretComments(comment, commentReadUser))
+            .collect(Collectors.toList()));
+    }
+
+    public List<Long> findCommentIds() {
+        return comments.stream()
+            .flatMap(comment -> comment.findCommentIds().stream())
+            .collect(Collectors.toList());
+    }
+
+    private CommentResponse hideSecretComments(CommentResponse comment, User commentReadUser) {
+        if (!commentReadUser.isLoginUser()) {
+            return comment.hideSecretComments();
+        }
+        if (commentReadUser.isAdminUser(adminUserId) || commentReadUser.isSameUser(comment.getUser().getId())) {
+            return comment;
+        }
+        return comment.hideSecretComments();
+    }
+}
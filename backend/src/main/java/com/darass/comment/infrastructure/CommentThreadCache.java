@@ -0,0 +1,112 @@
+package com.darass.comment.infrastructure;
+
+import com.darass.comment.domain.LikeView;
+import com.darass.comment.domain.SortOption;
+import com.darass.common.CacheEvictions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CommentThreadCache {
+
+    private final Cache<Key, VersionedCommentThread> cache;
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public CommentThreadCache(@Value("${comment.thread-cache.maximum-size:10000}") long maximumSize,
+        @Value("${comment.thread-cache.expire-after-write-seconds:600}") long expireAfterWriteSeconds) {
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWriteSeconds, TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+    }
+
+    public Optional<CachedCommentThread> find(String projectKey, String url, SortOption sortOption,
+        LikeView likeView, long version) {
+        Key key = new Key(projectKey, url, sortOption, likeView);
+        VersionedCommentThread versionedCommentThread = cache.getIfPresent(key);
+        if (Objects.isNull(versionedCommentThread)) {
+            return Optional.empty();
+        }
+        if (versionedCommentThread.version != version) {
+            cache.asMap().remove(key, versionedCommentThread);
+            return Optional.empty();
+        }
+        return Optional.of(versionedCommentThread.commentThread);
+    }
+
+    // 쓰기 직전 버전으로 읽은 스레드가 늦게 들어와도, 이미 저장된 더 새로운 버전의 스레드를 덮어쓰지 않는다.
+    public void put(String projectKey, String url, SortOption sortOption, LikeView likeView, long version,
+        CachedCommentThread commentThread) {
+        cache.asMap().merge(new Key(projectKey, url, sortOption, likeView),
+            new VersionedCommentThread(version, commentThread),
+            (cached, loaded) -> loaded.version >= cached.version ? loaded : cached);
+    }
+
+    public void evict(String projectKey, String url) {
+        runNowAndAfterTransaction(() -> Arrays.stream(SortOption.values())
+            .forEach(sortOption -> Arrays.stream(LikeView.values())
+                .forEach(likeView -> cache.invalidate(new Key(projectKey, url, sortOption, likeView)))));
+    }
+
+    public void evictByProjectKey(String projectKey) {
+        runNowAndAfterTransaction(() -> cache.asMap().keySet()
+            .removeIf(key -> key.projectKey.equals(projectKey)));
+    }
+
+    public void evictAll() {
+        runNowAndAfterTransaction(cache::invalidateAll);
+    }
+
+    private void runNowAndAfterTransaction(Runnable eviction) {
+        invalidationCount.incrementAndGet();
+        CacheEvictions.evictNowAndAfterTransaction(eviction);
+    }
+
+    public long getHitCount() {
+        return stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return stats().missCount();
+    }
+
+    public long getEvictionCount() {
+        return stats().evictionCount();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @RequiredArgsConstructor
+    private static class VersionedCommentThread {
+
+        private final long version;
+        private final CachedCommentThread commentThread;
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Key {
+
+        private final String projectKey;
+        private final String url;
+        private final SortOption sortOption;
+        private final LikeView likeView;
+    }
+}
@@ -0,0 +1,8 @@
+package com.darass.comment.infrastructure;
+
+public interface CommentThreadEventBroadcaster {
+
+    boolean mayHaveSubscriber(String destination);
+
+    void broadcast(String destination, byte[] payload);
+}
@@ -0,0 +1,144 @@
+package com.darass.comment.infrastructure;
+
+import com.darass.comment.domain.CommentThreadEventType;
+import com.darass.comment.dto.CommentThreadEvent;
+import com.darass.comment.dto.CommentThreadEvents;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Component
+public class CommentThreadEventPublisher {
+
+    public static final String TOPIC_COMMENTS = "/topic/comments/";
+
+    private final CommentThreadEventBroadcaster commentThreadEventBroadcaster;
+    private final ObjectMapper objectMapper;
+    private final int maxEventCount;
+    private final Map<String, PendingEvents> pendingEvents = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    public CommentThreadEventPublisher(CommentThreadEventBroadcaster commentThreadEventBroadcaster,
+        ObjectMapper objectMapper,
+        @Value("${comment.live.window-millis:1000}") long windowMillis,
+        @Value("${comment.live.max-event-count:50}") int maxEventCount) {
+        this.commentThreadEventBroadcaster = commentThreadEventBroadcaster;
+        this.objectMapper = objectMapper;
+        this.maxEventCount = maxEventCount;
+        executor.scheduleWithFixedDelay(this::flushSafely, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public static String toDestination(String projectKey, String url) {
+        return TOPIC_COMMENTS + projectKey + "/" + URLEncoder.encode(url, StandardCharsets.UTF_8);
+    }
+
+    // 구독자가 있을 수 없는 스레드는 이벤트를 쌓지 않고, 롤백된 변경은 보내지 않도록 커밋 이후에만 쌓는다.
+    public void publishAfterCommit(String projectKey, String url, CommentThreadEvent event) {
+        String destination = toDestination(projectKey, url);
+        if (!commentThreadEventBroadcaster.mayHaveSubscriber(destination)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(destination, url, event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(destination, url, event);
+            }
+        });
+    }
+
+    private void add(String destination, String url, CommentThreadEvent event) {
+        pendingEvents.compute(destination, (key, pending) -> {
+            if (pending == null) {
+                pending = new PendingEvents(url);
+            }
+            pending.add(event);
+            return pending;
+        });
+    }
+
+    public void flush() {
+        for (String destination : new ArrayList<>(pendingEvents.keySet())) {
+            PendingEvents pending = pendingEvents.remove(destination);
+            if (pending != null) {
+                commentThreadEventBroadcaster.broadcast(destination, serialize(pending.toEvents()));
+            }
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("댓글 실시간 이벤트 전송에 실패했습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private byte[] serialize(CommentThreadEvents events) {
+        try {
+            return objectMapper.writeValueAsBytes(events);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private class PendingEvents {
+
+        private final String url;
+        private final Map<String, CommentThreadEvent> events = new LinkedHashMap<>();
+        private boolean truncated;
+
+        private PendingEvents(String url) {
+            this.url = url;
+        }
+
+        private void add(CommentThreadEvent event) {
+            String key = findKey(event);
+            if (events.containsKey(key)) {
+                events.put(key, event);
+                return;
+            }
+            if (events.size() >= maxEventCount) {
+                truncated = true;
+                return;
+            }
+            events.put(key, event);
+        }
+
+        private String findKey(CommentThreadEvent event) {
+            if (event.getType() == CommentThreadEventType.LIKE_COUNT) {
+                return event.getType().name() + event.getCommentId();
+            }
+            return String.valueOf(sequence.incrementAndGet());
+        }
+
+        private CommentThreadEvents toEvents() {
+            return new CommentThreadEvents(url, new ArrayList<>(events.values()), truncated);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.darass.comment.infrastructure;
+
+import com.darass.common.StompSessionRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+@RequiredArgsConstructor
+@Component
+public class CommentThreadEventSender {
+
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final StompSessionRegistry stompSessionRegistry;
+
+    public boolean hasSubscriber(String destination) {
+        return stompSessionRegistry.hasSubscriber(destination);
+    }
+
+    public void send(String destination, byte[] payload) {
+        if (!hasSubscriber(destination)) {
+            return;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        simpMessagingTemplate.send(destination, MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+}
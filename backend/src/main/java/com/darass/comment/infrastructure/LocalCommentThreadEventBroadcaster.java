@@ -0,0 +1,23 @@
+package com.darass.comment.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "websocket.relay.enabled", havingValue = "false", matchIfMissing = true)
+@Component
+public class LocalCommentThreadEventBroadcaster implements CommentThreadEventBroadcaster {
+
+    private final CommentThreadEventSender commentThreadEventSender;
+
+    @Override
+    public boolean mayHaveSubscriber(String destination) {
+        return commentThreadEventSender.hasSubscriber(destination);
+    }
+
+    @Override
+    public void broadcast(String destination, byte[] payload) {
+        commentThreadEventSender.send(destination, payload);
+    }
+}
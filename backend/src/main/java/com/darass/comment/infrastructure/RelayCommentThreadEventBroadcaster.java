@@ -0,0 +1,54 @@
+package com.darass.comment.infrastructure;
+
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@ConditionalOnProperty(name = "websocket.relay.enabled", havingValue = "true")
+@Component
+public class RelayCommentThreadEventBroadcaster implements CommentThreadEventBroadcaster {
+
+    public static final String DESTINATION_HEADER = "destination";
+
+    private final AmqpTemplate amqpTemplate;
+    private final CommentThreadEventSender commentThreadEventSender;
+    private final String exchange;
+
+    public RelayCommentThreadEventBroadcaster(AmqpTemplate amqpTemplate,
+        CommentThreadEventSender commentThreadEventSender,
+        @Value("${websocket.relay.thread-exchange:darass.comment-thread}") String exchange) {
+        this.amqpTemplate = amqpTemplate;
+        this.commentThreadEventSender = commentThreadEventSender;
+        this.exchange = exchange;
+    }
+
+    @Override
+    public boolean mayHaveSubscriber(String destination) {
+        return true;
+    }
+
+    @Override
+    public void broadcast(String destination, byte[] payload) {
+        Message message = MessageBuilder.withBody(payload)
+            .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+            .setHeader(DESTINATION_HEADER, destination)
+            .build();
+        amqpTemplate.send(exchange, "", message);
+    }
+
+    @RabbitListener(bindings = @QueueBinding(value = @Queue, exchange = @Exchange(
+        name = "${websocket.relay.thread-exchange:darass.comment-thread}", type = ExchangeTypes.FANOUT)))
+    public void receive(Message message) {
+        String destination = message.getMessageProperties().getHeader(DESTINATION_HEADER);
+        commentThreadEventSender.send(destination, message.getBody());
+    }
+}
@@ -1,8 +1,23 @@
 package com.darass.comment.repository;
 
 import com.darass.comment.domain.CommentLike;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
 
+    @Query("select cl from CommentLike cl join fetch cl.user where cl.comment.id in :commentIds order by cl.id")
+    List<CommentLike> findWithUserByCommentIds(@Param("commentIds") List<Long> commentIds);
+
+    @Query("select cl.comment.id from CommentLike cl where cl.user.id = :userId and cl.comment.id in :commentIds")
+    List<Long> findCommentIdsByUserIdAndCommentIds(@Param("userId") Long userId,
+        @Param("commentIds") List<Long> commentIds);
+
+    @Query(value = "select cl from CommentLike cl join fetch cl.user where cl.comment.id = :commentId",
+        countQuery = "select count(cl) from CommentLike cl where cl.comment.id = :commentId")
+    Page<CommentLike> findWithUserByCommentId(@Param("commentId") Long commentId, Pageable pageable);
 }
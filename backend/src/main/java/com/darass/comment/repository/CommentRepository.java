@@ -1,27 +1,110 @@
 package com.darass.comment.repository;
 
 import com.darass.comment.domain.Comment;
+import com.darass.comment.domain.CommentCount;
+import java.math.BigInteger;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    List<Comment> findByUrlAndProjectSecretKeyAndParentId(String url, String projectSecretKey, Long parentId, Sort sort);
-
     Page<Comment> findByUrlAndProjectSecretKeyAndParentId(String url, String projectSecretKey, Long parentId, Pageable pageable);
 
+    @Query("select c from Comment c join fetch c.user "
+        + "where c.url = :url and c.project.secretKey = :projectSecretKey and c.parent is null")
+    List<Comment> findRootCommentsWithUser(@Param("url") String url,
+        @Param("projectSecretKey") String projectSecretKey, Sort sort);
+
+    @Query("select c from Comment c join fetch c.user "
+        + "where c.url = :url and c.project.secretKey = :projectSecretKey and c.parent is null "
+        + "and c.id < :id order by c.id desc")
+    Slice<Comment> findRootCommentsBeforeId(@Param("url") String url,
+        @Param("projectSecretKey") String projectSecretKey, @Param("id") Long id, Pageable pageable);
+
+    @Query("select c from Comment c join fetch c.user "
+        + "where c.url = :url and c.project.secretKey = :projectSecretKey and c.parent is null "
+        + "and c.id > :id order by c.id asc")
+    Slice<Comment> findRootCommentsAfterId(@Param("url") String url,
+        @Param("projectSecretKey") String projectSecretKey, @Param("id") Long id, Pageable pageable);
+
+    @Query("select c from Comment c join fetch c.user "
+        + "where c.url = :url and c.project.secretKey = :projectSecretKey and c.parent is null "
+        + "and (c.likeCount < :likeCount or (c.likeCount = :likeCount and c.id > :id)) "
+        + "order by c.likeCount desc, c.id asc")
+    Slice<Comment> findRootCommentsAfterLikeCount(@Param("url") String url,
+        @Param("projectSecretKey") String projectSecretKey, @Param("likeCount") int likeCount, @Param("id") Long id,
+        Pageable pageable);
+
+    long countByUrlAndProjectSecretKey(String url, String projectSecretKey);
+
+    @Query(value = "select t.id from (select c.id, row_number() over (partition by c.parent_id order by c.id) as row_num "
+        + "from comment c where c.parent_id in (:parentIds)) t where t.row_num <= :size", nativeQuery = true)
+    List<BigInteger> findFirstSubCommentIdsByParentIds(@Param("parentIds") List<Long> parentIds,
+        @Param("size") int size);
+
+    @Query("select c from Comment c join fetch c.user left join fetch c.parent where c.id in :ids order by c.id")
+    List<Comment> findWithUserByIds(@Param("ids") List<Long> ids);
+
+    @Query("select c from Comment c join fetch c.user where c.parent.id in :parentIds order by c.id")
+    List<Comment> findSubCommentsWithUserByParentIds(@Param("parentIds") List<Long> parentIds);
+
+    @Query("select c from Comment c join fetch c.user where c.parent.id = :parentId and c.id > :id order by c.id asc")
+    Slice<Comment> findSubCommentsAfterId(@Param("parentId") Long parentId, @Param("id") Long id, Pageable pageable);
+
     Page<Comment> findByProjectSecretKeyAndCreatedDateBetween(String projectSecretKey, LocalDateTime startDate,
         LocalDateTime endDate, Pageable pageable);
 
+    @Query("select c.id from Comment c "
+        + "where c.project.secretKey = :projectSecretKey and c.createdDate between :startDate and :endDate")
+    List<Long> findIdsByProjectSecretKeyAndCreatedDateBetween(@Param("projectSecretKey") String projectSecretKey,
+        @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate, Pageable pageable);
+
+    long countByProjectSecretKeyAndCreatedDateBetween(String projectSecretKey, LocalDateTime startDate,
+        LocalDateTime endDate);
+
     Page<Comment> findByProjectSecretKeyAndContentContainingAndCreatedDateBetween(String projectSecretKey,
         String keyword, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
 
+    @Query("select new com.darass.comment.domain.CommentCount(c.url, count(c), sum(c.replyCount)) from Comment c "
+        + "where c.project.id = :projectId and c.url in :urls and c.parent is null group by c.url")
+    List<CommentCount> countByProjectIdAndUrls(@Param("projectId") Long projectId, @Param("urls") List<String> urls);
+
+    @Query("select s.parent.id from Comment s where s.user.id = :userId and s.parent is not null")
+    List<Long> findParentIdsOfSubCommentsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("update Comment c set c.replyCount = c.replyCount + 1 where c.id = :id")
+    int increaseReplyCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Comment c set c.replyCount = c.replyCount - :count where c.id = :id and c.replyCount >= :count")
+    int decreaseReplyCount(@Param("id") Long id, @Param("count") int count);
+
+    // 같은 댓글에 몰리는 알람을 차례로 묶도록 댓글 행을 잠그면서, 잠근 시점의 좋아요 수를 읽는다.
+    @Query(value = "select like_count from comment where id = :id for update", nativeQuery = true)
+    Integer findLikeCountForUpdate(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Comment c set c.likeCount = c.likeCount + 1 where c.id = :id")
+    int increaseLikeCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Comment c set c.likeCount = c.likeCount - 1 where c.id = :id and c.likeCount > 0")
+    int decreaseLikeCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Comment c set c.likeCount = c.likeCount - 1 where c.likeCount > 0 and c.id in ("
+        + "select cl.comment.id from CommentLike cl where cl.user.id = :userId)")
+    int decreaseLikeCountsByLikedUserId(@Param("userId") Long userId);
+
     @Query("select substring(c.createdDate, :beginIndex, :length) as date, count(c) as count from Comment c "
         + "where c.project.secretKey=:projectSecretKey and c.createdDate between :startDate and :endDate group by date")
     List<Object[]> findDateCount(@Param("projectSecretKey") String projectSecretKey,
@@ -0,0 +1,135 @@
+package com.darass.comment.repository;
+
+import com.darass.comment.domain.Comment;
+import com.darass.comment.domain.CommentCursor;
+import com.darass.comment.domain.CommentLike;
+import com.darass.comment.domain.CommentThread;
+import com.darass.comment.domain.LikeView;
+import com.darass.comment.domain.SortOption;
+import com.google.common.collect.Lists;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CommentThreadLoader {
+
+    private final CommentRepository commentRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final EntityManager entityManager;
+    private final int subCommentPreviewSize;
+    private final int streamBatchSize;
+
+    public CommentThreadLoader(CommentRepository commentRepository, CommentLikeRepository commentLikeRepository,
+        EntityManager entityManager, @Value("${comment.sub-comment-preview-size:10}") int subCommentPreviewSize,
+        @Value("${comment.stream-batch-size:100}") int streamBatchSize) {
+        this.commentRepository = commentRepository;
+        this.commentLikeRepository = commentLikeRepository;
+        this.entityManager = entityManager;
+        this.subCommentPreviewSize = subCommentPreviewSize;
+        this.streamBatchSize = streamBatchSize;
+    }
+
+    public CommentThread load(String url, String projectSecretKey, Sort sort, LikeView likeView) {
+        return assemble(commentRepository.findRootCommentsWithUser(url, projectSecretKey, sort), likeView);
+    }
+
+    public CommentThread assemble(List<Comment> comments, LikeView likeView) {
+        List<Comment> subComments = findFirstSubComments(comments);
+        List<CommentLike> commentLikes = findCommentLikes(comments, subComments, likeView);
+        return new CommentThread(comments, subComments, commentLikes);
+    }
+
+    public CommentThread assembleSubComments(Comment parent, List<Comment> subComments, LikeView likeView) {
+        List<CommentLike> commentLikes = findCommentLikes(Collections.emptyList(), subComments, likeView);
+        return new CommentThread(Collections.singletonList(parent), subComments, commentLikes);
+    }
+
+    public CommentThread assembleAll(List<Comment> comments) {
+        List<Comment> subComments = findAllSubComments(comments);
+        List<CommentLike> commentLikes = findCommentLikes(comments, subComments, LikeView.FULL);
+        return new CommentThread(comments, subComments, commentLikes);
+    }
+
+    // 결과를 다 읽고 닫힌 쿼리만 쓰므로, 열린 결과셋 위에서 다른 쿼리를 실행해 나머지 결과가 메모리에 쌓이지 않는다.
+    public void consumeInBatches(SortOption sortOption, BiFunction<CommentCursor, Pageable, Slice<Comment>> finder,
+        Consumer<List<Comment>> consumer) {
+        CommentCursor cursor = CommentCursor.first(sortOption);
+        Slice<Comment> batch;
+        do {
+            batch = finder.apply(cursor, PageRequest.of(0, streamBatchSize));
+            if (!batch.hasContent()) {
+                return;
+            }
+            List<Comment> comments = batch.getContent();
+            consumer.accept(comments);
+            cursor = CommentCursor.of(comments.get(comments.size() - 1));
+            entityManager.clear();
+        } while (batch.hasNext());
+    }
+
+    public void consumeInBatches(List<Long> commentIds, Consumer<List<Comment>> consumer) {
+        Lists.partition(commentIds, streamBatchSize).forEach(batchIds -> {
+            Map<Long, Comment> comments = commentRepository.findWithUserByIds(batchIds).stream()
+                .collect(Collectors.toMap(Comment::getId, Function.identity()));
+            consumer.accept(batchIds.stream()
+                .map(comments::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+            entityManager.clear();
+        });
+    }
+
+    private List<Comment> findFirstSubComments(List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> parentIds = comments.stream()
+            .map(Comment::getId)
+            .collect(Collectors.toList());
+        List<Long> subCommentIds = commentRepository
+            .findFirstSubCommentIdsByParentIds(parentIds, subCommentPreviewSize).stream()
+            .map(BigInteger::longValue)
+            .collect(Collectors.toList());
+        if (subCommentIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return commentRepository.findWithUserByIds(subCommentIds);
+    }
+
+    private List<Comment> findAllSubComments(List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return commentRepository.findSubCommentsWithUserByParentIds(comments.stream()
+            .map(Comment::getId)
+            .collect(Collectors.toList()));
+    }
+
+    private List<CommentLike> findCommentLikes(List<Comment> comments, List<Comment> subComments, LikeView likeView) {
+        if (likeView.isCompact()) {
+            return Collections.emptyList();
+        }
+        List<Long> commentIds = Stream.concat(comments.stream(), subComments.stream())
+            .map(Comment::getId)
+            .collect(Collectors.toList());
+        if (commentIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return commentLikeRepository.findWithUserByCommentIds(commentIds);
+    }
+}
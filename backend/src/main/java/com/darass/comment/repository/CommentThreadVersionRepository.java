@@ -0,0 +1,29 @@
+package com.darass.comment.repository;
+
+import com.darass.comment.domain.CommentThreadVersion;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CommentThreadVersionRepository extends JpaRepository<CommentThreadVersion, Long> {
+
+    @Query("select v.version from CommentThreadVersion v where v.projectId = :projectId and v.url = :url")
+    Optional<Long> findVersion(@Param("projectId") Long projectId, @Param("url") String url);
+
+    @Modifying
+    @Query("update CommentThreadVersion v set v.version = v.version + 1 where v.projectId = :projectId and v.url = :url")
+    int increaseVersion(@Param("projectId") Long projectId, @Param("url") String url);
+
+    @Modifying
+    @Query("update CommentThreadVersion v set v.version = v.version + 1 where exists ("
+        + "select c.id from Comment c where c.user.id = :userId and c.project.id = v.projectId and c.url = v.url) "
+        + "or exists (select cl.id from CommentLike cl join cl.comment c "
+        + "where cl.user.id = :userId and c.project.id = v.projectId and c.url = v.url)")
+    int increaseVersionsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from CommentThreadVersion v where v.projectId = :projectId")
+    void deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -1,42 +1,72 @@
 package com.darass.comment.service;
 
 import com.darass.comment.domain.Comment;
+import com.darass.comment.domain.CommentCount;
+import com.darass.comment.domain.CommentCursor;
 import com.darass.comment.domain.CommentLike;
 import com.darass.comment.domain.CommentStat;
-import com.darass.comment.domain.Comments;
+import com.darass.comment.domain.CommentThread;
+import com.darass.comment.domain.CommentThreadEventType;
+import com.darass.comment.domain.LikeView;
 import com.darass.comment.domain.SortOption;
+import com.darass.comment.dto.CommentCountRequestInProject;
+import com.darass.comment.dto.CommentCountResponse;
 import com.darass.comment.dto.CommentCreateRequest;
+import com.darass.comment.dto.CommentCursorResponses;
 import com.darass.comment.dto.CommentDeleteRequest;
+import com.darass.comment.dto.CommentLikeReadRequestByPagination;
+import com.darass.comment.dto.CommentLikeResponses;
 import com.darass.comment.dto.CommentReadRequest;
+import com.darass.comment.dto.CommentReadRequestByCursor;
 import com.darass.comment.dto.CommentReadRequestByPagination;
 import com.darass.comment.dto.CommentReadRequestBySearch;
 import com.darass.comment.dto.CommentReadRequestInProject;
 import com.darass.comment.dto.CommentReadSecretCommentRequest;
 import com.darass.comment.dto.CommentResponse;
 import com.darass.comment.dto.CommentResponses;
+import com.darass.comment.dto.CommentResponsesWriter;
 import com.darass.comment.dto.CommentStatRequest;
 import com.darass.comment.dto.CommentStatResponse;
+import com.darass.comment.dto.CommentThreadEvent;
 import com.darass.comment.dto.CommentUpdateRequest;
+import com.darass.comment.dto.SubCommentCursorResponses;
+import com.darass.comment.dto.SubCommentReadRequestByCursor;
+import com.darass.comment.dto.SubCommentResponse;
+import com.darass.comment.infrastructure.CachedCommentThread;
+import com.darass.comment.infrastructure.CommentThreadCache;
+import com.darass.comment.infrastructure.CommentThreadEventPublisher;
 import com.darass.comment.repository.CommentCountStrategyFactory;
+import com.darass.comment.repository.CommentLikeRepository;
 import com.darass.comment.repository.CommentRepository;
+import com.darass.comment.repository.CommentThreadLoader;
 import com.darass.commentalarm.domain.CommentAlarm;
-import com.darass.commentalarm.domain.CommentAlarmMachine;
 import com.darass.commentalarm.domain.CommentAlarmType;
-import com.darass.commentalarm.repository.CommentAlarmRepository;
+import com.darass.commentalarm.infrastructure.CommentAlarmAggregator;
 import com.darass.exception.ExceptionWithMessageAndCode;
-import com.darass.project.domain.Project;
+import com.darass.project.dto.ProjectResponse;
+import com.darass.project.infrastructure.ProjectCache;
 import com.darass.project.repository.ProjectRepository;
 import com.darass.user.domain.GuestUser;
 import com.darass.user.domain.User;
 import com.darass.user.dto.UserResponse;
+import com.darass.user.dto.UserResponsePool;
 import com.darass.user.repository.UserRepository;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,58 +75,270 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class CommentService {
 
+    private static final int MAX_COUNT_URL_SIZE = 100;
+
     private final CommentRepository commentRepository;
+    private final CommentLikeRepository commentLikeRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
-    private final CommentAlarmRepository commentAlarmRepository;
     private final CommentCountStrategyFactory commentCountStrategyFactory;
-    private final CommentAlarmMachine commentAlarmMachine;
+    private final CommentAlarmAggregator commentAlarmAggregator;
+    private final CommentThreadLoader commentThreadLoader;
+    private final CommentThreadCache commentThreadCache;
+    private final CommentThreadVersionService commentThreadVersionService;
+    private final CommentThreadEventPublisher commentThreadEventPublisher;
+    private final ProjectCache projectCache;
 
     public CommentResponse save(User user, CommentCreateRequest commentRequest) {
         if (!user.isLoginUser()) {
             user = saveGuestUser(commentRequest);
             user.setUserType("GuestUser");
         }
-        Project project = findProjectBySecretKey(commentRequest);
+        ProjectResponse project = projectCache.findBySecretKey(commentRequest.getProjectSecretKey());
         if (Objects.isNull(commentRequest.getParentId())) {
             return saveComment(user, commentRequest, project);
         }
         return saveSubComment(user, commentRequest, project);
     }
 
+    @Transactional(readOnly = true)
+    public String findThreadETag(String projectKey, String url) {
+        return projectCache.findOptionalBySecretKey(projectKey)
+            .map(project -> "v" + commentThreadVersionService.findVersion(project.getId(), url))
+            .orElse(null);
+    }
+
+    @Transactional(readOnly = true)
+    public String findThreadETag(User user, String projectKey, String url) {
+        String eTag = findThreadETag(projectKey, url);
+        if (Objects.isNull(eTag)) {
+            return null;
+        }
+        if (!user.isLoginUser()) {
+            return eTag + "-guest";
+        }
+        return eTag + "-" + user.getId();
+    }
+
     @Transactional(readOnly = true)
     public CommentResponses findAllCommentsByUrlAndProjectKey(User user, CommentReadRequest request) {
-        Comments comments = new Comments(commentRepository
-            .findByUrlAndProjectSecretKeyAndParentId(request.getUrl(), request.getProjectKey(), null,
-                SortOption.getMatchedSort(request.getSortOption())));
+        SortOption sortOption = SortOption.find(request.getSortOption());
+        LikeView likeView = LikeView.find(request.getLikeView());
+        ProjectResponse project = projectCache.findBySecretKey(request.getProjectKey());
+        long version = commentThreadVersionService.findVersion(project.getId(), request.getUrl());
+        CachedCommentThread cachedCommentThread = commentThreadCache
+            .find(request.getProjectKey(), request.getUrl(), sortOption, likeView, version)
+            .orElseGet(() -> loadCommentThread(request, sortOption, likeView, project, version));
+        CommentResponses commentResponses = cachedCommentThread.toResponses(user,
+            findLikedCommentIds(user, likeView, cachedCommentThread.findCommentIds()));
+        if (request.isNormalizeUsers()) {
+            return commentResponses.normalizeUsers();
+        }
+        return commentResponses;
+    }
 
-        Project project = projectRepository.findBySecretKey(request.getProjectKey())
-            .orElseThrow(ExceptionWithMessageAndCode.NOT_FOUND_PROJECT::getException);
+    // 스레드보다 버전을 먼저 읽으므로, 그 사이 커밋된 쓰기가 있으면 이 스레드는 다음 조회에서 버려진다.
+    private CachedCommentThread loadCommentThread(CommentReadRequest request, SortOption sortOption,
+        LikeView likeView, ProjectResponse project, long version) {
+        CommentThread commentThread = commentThreadLoader.load(request.getUrl(), request.getProjectKey(),
+            sortOption.getSort(), likeView);
 
-        comments.handleSecretComments(user, project.getAdminUserId());
+        CachedCommentThread cachedCommentThread = toCachedCommentThread(project, commentThread, likeView);
+        commentThreadCache.put(request.getProjectKey(), request.getUrl(), sortOption, likeView, version,
+            cachedCommentThread);
+        return cachedCommentThread;
+    }
 
-        return new CommentResponses(comments.totalCommentWithSubComment(), 1, comments.getComments().stream()
-            .map(comment -> CommentResponse.of(comment, UserResponse.of(comment.getUser())))
-            .collect(Collectors.toList()));
+    @Transactional(readOnly = true)
+    public void writeAllCommentsByUrlAndProjectKey(User user, CommentReadRequest request,
+        CommentResponsesWriter writer) {
+        SortOption sortOption = SortOption.find(request.getSortOption());
+        LikeView likeView = LikeView.find(request.getLikeView());
+        ProjectResponse project = projectCache.findBySecretKey(request.getProjectKey());
+
+        long totalComment = commentRepository.countByUrlAndProjectSecretKey(request.getUrl(), request.getProjectKey());
+        writer.writeStart(totalComment, 1);
+        commentThreadLoader.consumeInBatches(sortOption, (cursor, pageable) ->
+            findRootCommentsAfter(request.getUrl(), request.getProjectKey(), sortOption, cursor, pageable), batch -> {
+                CommentThread commentThread = commentThreadLoader.assemble(batch, likeView);
+                writer.write(toCommentResponses(user, project, commentThread, likeView));
+            });
+        writer.writeEnd();
     }
 
     @Transactional(readOnly = true)
-    public CommentResponses findAllCommentsByUrlAndProjectKeyUsingPagination(CommentReadRequestByPagination request) {
+    public CommentResponses findAllCommentsByUrlAndProjectKeyUsingPagination(User user,
+        CommentReadRequestByPagination request) {
         int pageBasedIndex = request.getPage() - 1;
+        LikeView likeView = LikeView.find(request.getLikeView());
+        ProjectResponse project = projectCache.findBySecretKey(request.getProjectKey());
         try {
             Page<Comment> comments = commentRepository
                 .findByUrlAndProjectSecretKeyAndParentId(request.getUrl(), request.getProjectKey(), null,
                     PageRequest.of(pageBasedIndex, request.getSize(), SortOption.getMatchedSort(request.getSortOption())));
 
-            return new CommentResponses(new Comments(comments.toList()).totalCommentWithSubComment(),
-                comments.getTotalPages(), comments.stream()
-                .map(comment -> CommentResponse.of(comment, UserResponse.of(comment.getUser())))
+            CommentThread commentThread = commentThreadLoader.assemble(comments.getContent(), likeView);
+
+            CommentResponses commentResponses = new CommentResponses(commentThread.totalCommentWithSubComment(),
+                comments.getTotalPages(), toCommentResponses(user, project, commentThread, likeView));
+            if (request.isNormalizeUsers()) {
+                return commentResponses.normalizeUsers();
+            }
+            return commentResponses;
+        } catch (IllegalArgumentException e) {
+            throw ExceptionWithMessageAndCode.PAGE_NOT_POSITIVE_EXCEPTION.getException();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public CommentCursorResponses findAllCommentsByUrlAndProjectKeyUsingCursor(User user,
+        CommentReadRequestByCursor request) {
+        SortOption sortOption = SortOption.find(request.getSortOption());
+        LikeView likeView = LikeView.find(request.getLikeView());
+        CommentCursor cursor = CommentCursor.decode(request.getCursor(), sortOption);
+        ProjectResponse project = projectCache.findBySecretKey(request.getProjectKey());
+        try {
+            Slice<Comment> comments = findRootCommentsAfter(request.getUrl(), request.getProjectKey(), sortOption,
+                cursor, PageRequest.of(0, request.getSize()));
+            CommentThread commentThread = commentThreadLoader.assemble(comments.getContent(), likeView);
+
+            return new CommentCursorResponses(countComments(request), findNextCursor(comments),
+                toCommentResponses(user, project, commentThread, likeView));
+        } catch (IllegalArgumentException e) {
+            throw ExceptionWithMessageAndCode.PAGE_NOT_POSITIVE_EXCEPTION.getException();
+        }
+    }
+
+    private List<CommentResponse> toCommentResponses(User user, ProjectResponse project, CommentThread commentThread,
+        LikeView likeView) {
+        CachedCommentThread cachedCommentThread = toCachedCommentThread(project, commentThread, likeView);
+        return cachedCommentThread.toResponses(user,
+            findLikedCommentIds(user, likeView, cachedCommentThread.findCommentIds())).getComments();
+    }
+
+    private CachedCommentThread toCachedCommentThread(ProjectResponse project, CommentThread commentThread,
+        LikeView likeView) {
+        UserResponsePool userResponsePool = new UserResponsePool();
+        return new CachedCommentThread(project.getUserId(), commentThread.totalCommentWithSubComment(),
+            commentThread.getComments().stream()
+                .map(comment -> CommentResponse.of(comment, commentThread, likeView, userResponsePool))
+                .collect(Collectors.toList()));
+    }
+
+    private Set<Long> findLikedCommentIds(User user, LikeView likeView, List<Long> commentIds) {
+        if (!likeView.isCompact() || !user.isLoginUser() || commentIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(commentLikeRepository.findCommentIdsByUserIdAndCommentIds(user.getId(), commentIds));
+    }
+
+    private Slice<Comment> findRootCommentsAfter(String url, String projectKey, SortOption sortOption,
+        CommentCursor cursor, Pageable pageable) {
+        if (sortOption == SortOption.LATEST) {
+            return commentRepository.findRootCommentsBeforeId(url, projectKey, cursor.getId(), pageable);
+        }
+        if (sortOption == SortOption.LIKE) {
+            return commentRepository.findRootCommentsAfterLikeCount(url, projectKey, cursor.getLikeCount(),
+                cursor.getId(), pageable);
+        }
+        return commentRepository.findRootCommentsAfterId(url, projectKey, cursor.getId(), pageable);
+    }
+
+    private Long countComments(CommentReadRequestByCursor request) {
+        if (!request.isIncludeTotal()) {
+            return null;
+        }
+        return commentRepository.countByUrlAndProjectSecretKey(request.getUrl(), request.getProjectKey());
+    }
+
+    private String findNextCursor(Slice<Comment> comments) {
+        if (!comments.hasNext()) {
+            return null;
+        }
+        List<Comment> content = comments.getContent();
+        return CommentCursor.of(content.get(content.size() - 1)).encode();
+    }
+
+    @Transactional(readOnly = true)
+    public SubCommentCursorResponses findSubCommentsUsingCursor(Long parentId, User user,
+        SubCommentReadRequestByCursor request) {
+        Comment parent = findCommentById(parentId);
+        LikeView likeView = LikeView.find(request.getLikeView());
+        CommentCursor cursor = CommentCursor.decode(request.getCursor(), SortOption.OTHER);
+        try {
+            Slice<Comment> subComments = commentRepository.findSubCommentsAfterId(parentId, cursor.getId(),
+                PageRequest.of(0, request.getSize()));
+            CommentThread commentThread =
+                commentThreadLoader.assembleSubComments(parent, subComments.getContent(), likeView);
+            List<SubCommentResponse> subCommentResponses =
+                SubCommentResponse.of(commentThread.findSubComments(parent), commentThread, likeView,
+                    new UserResponsePool());
+            Set<Long> likedCommentIds = findLikedCommentIds(user, likeView, subCommentResponses.stream()
+                .map(SubCommentResponse::getId)
                 .collect(Collectors.toList()));
+            subCommentResponses = subCommentResponses.stream()
+                .map(subCommentResponse -> subCommentResponse.checkLikedBy(likedCommentIds))
+                .collect(Collectors.toList());
+
+            return new SubCommentCursorResponses(parent.getSubCommentSize(), findNextCursor(subComments),
+                hideSecretSubComments(subCommentResponses, parent, user));
         } catch (IllegalArgumentException e) {
             throw ExceptionWithMessageAndCode.PAGE_NOT_POSITIVE_EXCEPTION.getException();
         }
     }
 
+    private List<SubCommentResponse> hideSecretSubComments(List<SubCommentResponse> subComments, Comment parent,
+        User user) {
+        Long adminUserId = projectCache.findById(parent.getProject().getId()).getUserId();
+        if (user.isLoginUser() && (user.isAdminUser(adminUserId) || user.isSameUser(parent.getUser()))) {
+            return subComments;
+        }
+        return subComments.stream()
+            .map(SubCommentResponse::hideSecretComment)
+            .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public CommentLikeResponses findLikingUsers(Long id, CommentLikeReadRequestByPagination request) {
+        if (!commentRepository.existsById(id)) {
+            throw ExceptionWithMessageAndCode.NOT_FOUND_COMMENT.getException();
+        }
+        int pageBasedIndex = request.getPage() - 1;
+        try {
+            Page<CommentLike> commentLikes = commentLikeRepository.findWithUserByCommentId(id,
+                PageRequest.of(pageBasedIndex, request.getSize(), Sort.by("id")));
+
+            return new CommentLikeResponses(commentLikes.getTotalElements(), commentLikes.getTotalPages(),
+                commentLikes.stream()
+                    .map(commentLike -> UserResponse.of(commentLike.getUser()))
+                    .collect(Collectors.toList()));
+        } catch (IllegalArgumentException e) {
+            throw ExceptionWithMessageAndCode.PAGE_NOT_POSITIVE_EXCEPTION.getException();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<CommentCountResponse> countCommentsByUrls(CommentCountRequestInProject request) {
+        List<String> urls = Objects.requireNonNullElse(request.getUrls(), Collections.<String>emptyList()).stream()
+            .distinct()
+            .collect(Collectors.toList());
+        if (urls.size() > MAX_COUNT_URL_SIZE) {
+            throw ExceptionWithMessageAndCode.TOO_MANY_URLS.getException();
+        }
+        ProjectResponse project = projectCache.findBySecretKey(request.getProjectKey());
+        if (urls.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, CommentCount> commentCounts = commentRepository.countByProjectIdAndUrls(project.getId(), urls)
+            .stream()
+            .collect(Collectors.toMap(CommentCount::getUrl, Function.identity()));
+        return urls.stream()
+            .map(url -> commentCounts.getOrDefault(url, CommentCount.empty(url)))
+            .map(CommentCountResponse::of)
+            .collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public CommentResponses findAllCommentsInProject(
         CommentReadRequestInProject request) {
@@ -119,6 +361,33 @@ public class CommentService {
         }
     }
 
+    @Transactional(readOnly = true)
+    public void writeAllCommentsInProject(CommentReadRequestInProject request, CommentResponsesWriter writer) {
+        LocalDateTime startDate = request.getStartDate().atTime(LocalTime.MIN);
+        LocalDateTime endDate = request.getEndDate().atTime(LocalTime.MAX);
+        try {
+            Pageable pageable = PageRequest.of(request.getPage() - 1, request.getSize(),
+                SortOption.getMatchedSort(request.getSortOption()));
+            long totalComment = commentRepository
+                .countByProjectSecretKeyAndCreatedDateBetween(request.getProjectKey(), startDate, endDate);
+
+            List<Long> commentIds = commentRepository.findIdsByProjectSecretKeyAndCreatedDateBetween(
+                request.getProjectKey(), startDate, endDate, pageable);
+
+            writer.writeStart(totalComment, (int) Math.ceil((double) totalComment / request.getSize()));
+            commentThreadLoader.consumeInBatches(commentIds, batch -> {
+                CommentThread commentThread = commentThreadLoader.assembleAll(batch);
+                UserResponsePool userResponsePool = new UserResponsePool();
+                writer.write(commentThread.getComments().stream()
+                    .map(comment -> CommentResponse.of(comment, commentThread, LikeView.FULL, userResponsePool))
+                    .collect(Collectors.toList()));
+            });
+            writer.writeEnd();
+        } catch (IllegalArgumentException e) {
+            throw ExceptionWithMessageAndCode.PAGE_NOT_POSITIVE_EXCEPTION.getException();
+        }
+    }
+
     @Transactional(readOnly = true)
     public CommentResponses findAllCommentsInProjectUsingSearch(
         CommentReadRequestBySearch request) {
@@ -151,37 +420,52 @@ public class CommentService {
         comment.changeContent(request.getContent());
         comment.changeSecretStatus(request.isSecret());
         commentRepository.save(comment);
+        changeCommentThread(comment);
+        publishCommentThreadEvent(comment, CommentThreadEvent.of(CommentThreadEventType.UPDATE, comment));
     }
 
     public void delete(Long id, User user, CommentDeleteRequest request) {
         user = findRegisteredUser(user, request.getGuestUserId(), request.getGuestUserPassword());
         Comment comment = findCommentById(id);
-        User adminUser = comment.getProject().getUser();
+        Long adminUserId = projectCache.findById(comment.getProject().getId()).getUserId();
 
-        validateCommentDeletableByUser(user, adminUser, comment);
+        validateCommentDeletableByUser(user, adminUserId, comment);
 
+        changeCommentThread(comment);
+        publishCommentThreadEvent(comment, CommentThreadEvent.of(CommentThreadEventType.DELETE, comment));
         commentRepository.deleteById(id);
         if (comment.isSubComment()) {
             Comment parent = comment.getParent();
             parent.deleteSubComment(id);
+            commentRepository.decreaseReplyCount(parent.getId(), 1);
         }
     }
 
     public void toggleLike(Long id, User user) {
         Comment comment = commentRepository.findById(id)
             .orElseThrow(ExceptionWithMessageAndCode.NOT_FOUND_COMMENT::getException);
+        changeCommentThread(comment);
 
         if (comment.isLikedByUser(user)) {
             comment.deleteCommentLikeByUser(user);
+            commentRepository.decreaseLikeCount(id);
+            publishLikeCountEvent(comment);
             return;
         }
 
-        sendCommentLikeAlarm(comment, CommentAlarmType.CREATE_COMMENT_LIKE, user);
-
         comment.addCommentLike(CommentLike.builder()
             .comment(comment)
             .user(user)
             .build());
+        commentRepository.increaseLikeCount(id);
+        sendCommentLikeAlarm(comment, CommentAlarmType.CREATE_COMMENT_LIKE, user);
+        publishLikeCountEvent(comment);
+    }
+
+    // 다른 요청의 좋아요가 반영된 값을 보내도록, 좋아요 수를 갱신한 뒤 DB에서 다시 읽는다.
+    private void publishLikeCountEvent(Comment comment) {
+        Integer likeCount = commentRepository.findLikeCountForUpdate(comment.getId());
+        publishCommentThreadEvent(comment, CommentThreadEvent.ofLikeCount(comment, likeCount));
     }
 
     public CommentStatResponse giveStat(CommentStatRequest request) {
@@ -199,6 +483,19 @@ public class CommentService {
         return CommentResponse.of(comment, UserResponse.of(user));
     }
 
+    private void changeCommentThread(Comment comment) {
+        Comment rootComment = comment.isSubComment() ? comment.getParent() : comment;
+        ProjectResponse project = projectCache.findById(rootComment.getProject().getId());
+        commentThreadVersionService.increaseVersion(project.getId(), rootComment.getUrl());
+        commentThreadCache.evict(project.getSecretKey(), rootComment.getUrl());
+    }
+
+    private void publishCommentThreadEvent(Comment comment, CommentThreadEvent event) {
+        Comment rootComment = comment.isSubComment() ? comment.getParent() : comment;
+        ProjectResponse project = projectCache.findById(rootComment.getProject().getId());
+        commentThreadEventPublisher.publishAfterCommit(project.getSecretKey(), rootComment.getUrl(), event);
+    }
+
     private void validateCommentUpdatableOrReadableByUser(User user, Comment comment) {
         if (comment.isCommentWriter(user)) {
             return;
@@ -206,8 +503,8 @@ public class CommentService {
         throw ExceptionWithMessageAndCode.UNAUTHORIZED_FOR_COMMENT.getException();
     }
 
-    private void validateCommentDeletableByUser(User user, User adminUser, Comment comment) {
-        if (user.isSameUser(adminUser) || comment.isCommentWriter(user)) {
+    private void validateCommentDeletableByUser(User user, Long adminUserId, Comment comment) {
+        if (user.isSameUser(adminUserId) || comment.isCommentWriter(user)) {
             return;
         }
         throw ExceptionWithMessageAndCode.UNAUTHORIZED_FOR_COMMENT.getException();
@@ -241,26 +538,24 @@ public class CommentService {
         return userRepository.saveAndFlush(user);
     }
 
-    private Project findProjectBySecretKey(CommentCreateRequest commentRequest) {
-        return projectRepository.findBySecretKey(commentRequest.getProjectSecretKey())
-            .orElseThrow(ExceptionWithMessageAndCode.NOT_FOUND_PROJECT::getException);
-    }
-
-    private CommentResponse saveComment(User user, CommentCreateRequest commentRequest, Project project) {
+    private CommentResponse saveComment(User user, CommentCreateRequest commentRequest, ProjectResponse project) {
         Comment comment = Comment.builder()
             .user(user)
             .content(commentRequest.getContent())
-            .project(project)
+            .project(projectRepository.getById(project.getId()))
             .url(commentRequest.getUrl())
             .secret(commentRequest.isSecret())
             .build();
 
-        sendCommentAlarm(comment, CommentAlarmType.CREATE_COMMENT, project.getUser());
+        sendCommentAlarm(comment, CommentAlarmType.CREATE_COMMENT, project.getUserId());
+        changeCommentThread(comment);
 
-        return CommentResponse.of(commentRepository.save(comment), UserResponse.of(comment.getUser()));
+        Comment savedComment = commentRepository.save(comment);
+        publishCommentThreadEvent(savedComment, CommentThreadEvent.of(CommentThreadEventType.CREATE, savedComment));
+        return CommentResponse.of(savedComment, UserResponse.of(comment.getUser()));
     }
 
-    private CommentResponse saveSubComment(User user, CommentCreateRequest commentRequest, Project project) {
+    private CommentResponse saveSubComment(User user, CommentCreateRequest commentRequest, ProjectResponse project) {
         Comment parentComment = commentRepository.findById(commentRequest.getParentId())
             .orElseThrow(ExceptionWithMessageAndCode.NOT_FOUND_COMMENT::getException);
         validateSubCommentable(parentComment);
@@ -268,15 +563,27 @@ public class CommentService {
         Comment comment = Comment.builder()
             .user(user)
             .content(commentRequest.getContent())
-            .project(project)
+            .project(projectRepository.getById(project.getId()))
             .url(commentRequest.getUrl())
             .parent(parentComment)
             .secret(commentRequest.isSecret())
             .build();
 
-        sendCommentAlarm(comment, CommentAlarmType.CREATE_SUB_COMMENT, parentComment.getUser());
+        changeCommentThread(comment);
+
+        // 같은 부모 댓글의 답글 알람에 묶일 때 알람이 새 답글을 가리킬 수 있도록, 답글을 먼저 저장한다.
+        Comment savedComment = commentRepository.save(comment);
+        sendCommentAlarm(savedComment, CommentAlarmType.CREATE_SUB_COMMENT, parentComment.getUser());
+        commentRepository.increaseReplyCount(parentComment.getId());
+        publishCommentThreadEvent(savedComment, CommentThreadEvent.of(CommentThreadEventType.CREATE, savedComment));
+        return CommentResponse.of(savedComment, UserResponse.of(comment.getUser()));
+    }
 
-        return CommentResponse.of(commentRepository.save(comment), UserResponse.of(comment.getUser()));
+    private void sendCommentAlarm(Comment comment, CommentAlarmType commentAlarmType, Long receiverId) {
+        if (comment.getUser().isSameUser(receiverId)) {
+            return;
+        }
+        sendCommentAlarm(comment, commentAlarmType, userRepository.getById(receiverId));
     }
 
     private void sendCommentAlarm(Comment comment, CommentAlarmType commentAlarmType, User receiver) {
@@ -285,8 +592,7 @@ public class CommentService {
         }
 
         CommentAlarm commentAlarm = comment.createCommentAlarm(commentAlarmType, receiver);
-        commentAlarmRepository.save(commentAlarm);
-        commentAlarmMachine.sendMessage(commentAlarm);
+        commentAlarmAggregator.save(commentAlarm);
     }
 
     private void sendCommentLikeAlarm(Comment comment, CommentAlarmType commentAlarmType, User sender) {
@@ -295,8 +601,7 @@ public class CommentService {
         }
 
         CommentAlarm commentAlarm = comment.createCommentLikeAlarm(commentAlarmType, sender);
-        commentAlarmRepository.save(commentAlarm);
-        commentAlarmMachine.sendMessage(commentAlarm);
+        commentAlarmAggregator.save(commentAlarm);
     }
 
     private void validateSubCommentable(Comment parentComment) {
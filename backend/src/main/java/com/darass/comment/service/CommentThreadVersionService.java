@@ -0,0 +1,57 @@
+package com.darass.comment.service;
+
+import com.darass.comment.domain.CommentThreadVersion;
+import com.darass.comment.repository.CommentThreadVersionRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Transactional
+@Service
+public class CommentThreadVersionService {
+
+    private final CommentThreadVersionRepository commentThreadVersionRepository;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public CommentThreadVersionService(CommentThreadVersionRepository commentThreadVersionRepository,
+        PlatformTransactionManager transactionManager) {
+        this.commentThreadVersionRepository = commentThreadVersionRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 노드마다 버전을 캐시하면 커밋 전에 읽은 버전이 남아 잘못된 304를 응답할 수 있어, 유니크 키로 매번 조회한다.
+    @Transactional(readOnly = true)
+    public long findVersion(Long projectId, String url) {
+        return commentThreadVersionRepository.findVersion(projectId, url).orElse(0L);
+    }
+
+    public void increaseVersion(Long projectId, String url) {
+        if (commentThreadVersionRepository.increaseVersion(projectId, url) == 0) {
+            createVersionIfAbsent(projectId, url);
+            commentThreadVersionRepository.increaseVersion(projectId, url);
+        }
+    }
+
+    public void increaseVersionsByUserId(Long userId) {
+        commentThreadVersionRepository.increaseVersionsByUserId(userId);
+    }
+
+    private void createVersionIfAbsent(Long projectId, String url) {
+        try {
+            requiresNewTransaction.executeWithoutResult(status -> commentThreadVersionRepository.save(
+                CommentThreadVersion.builder()
+                    .projectId(projectId)
+                    .url(url)
+                    .build()));
+        } catch (DataIntegrityViolationException ignored) {
+        }
+    }
+
+    public void deleteByProjectId(Long projectId) {
+        commentThreadVersionRepository.deleteByProjectId(projectId);
+    }
+}
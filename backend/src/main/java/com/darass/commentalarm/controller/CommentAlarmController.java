@@ -1,18 +1,29 @@
 package com.darass.commentalarm.controller;
 
 import com.darass.auth.domain.RequiredLogin;
+import com.darass.auth.service.OAuthService;
+import com.darass.commentalarm.dto.CommentAlarmCursorResponses;
+import com.darass.commentalarm.dto.CommentAlarmReadRequestByCursor;
 import com.darass.commentalarm.dto.CommentAlarmRequest;
 import com.darass.commentalarm.dto.CommentAlarmResponse;
+import com.darass.commentalarm.dto.CommentAlarmStreamTokenResponse;
+import com.darass.commentalarm.dto.CommentAlarmUnreadCountResponse;
 import com.darass.commentalarm.service.CommentAlarmService;
 import com.darass.user.domain.SocialLoginUser;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RequiredArgsConstructor
 @RequestMapping("/api/v1")
@@ -20,6 +31,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class CommentAlarmController {
 
     private final CommentAlarmService commentAlarmService;
+    private final OAuthService oAuthService;
 
     @GetMapping("/comment-alarms")
     public ResponseEntity<List<CommentAlarmResponse>> findAllAlarmByCreatedDateBetween(
@@ -34,4 +46,36 @@ public class CommentAlarmController {
         return ResponseEntity.ok(commentAlarmResponses);
     }
 
+    @GetMapping(value = "/comment-alarms", params = "cursor")
+    public ResponseEntity<CommentAlarmCursorResponses> findAllUsingCursor(
+        @RequiredLogin SocialLoginUser socialLoginUser, @ModelAttribute CommentAlarmReadRequestByCursor request) {
+        return ResponseEntity.ok(commentAlarmService.findAllUsingCursor(socialLoginUser, request));
+    }
+
+    @GetMapping("/comment-alarms/unread-count")
+    public ResponseEntity<CommentAlarmUnreadCountResponse> countUnreadAlarms(
+        @RequiredLogin SocialLoginUser socialLoginUser, @RequestParam(required = false) Long lastReadAlarmId) {
+        return ResponseEntity.ok(commentAlarmService.countUnreadAlarms(socialLoginUser, lastReadAlarmId));
+    }
+
+    @PostMapping("/comment-alarms/stream-token")
+    public ResponseEntity<CommentAlarmStreamTokenResponse> createStreamToken(
+        @RequiredLogin SocialLoginUser socialLoginUser) {
+        return ResponseEntity.ok(new CommentAlarmStreamTokenResponse(oAuthService.createStreamToken(socialLoginUser)));
+    }
+
+    @GetMapping(value = "/comment-alarms/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequiredLogin SocialLoginUser socialLoginUser,
+        @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return commentAlarmService.stream(socialLoginUser, lastEventId);
+    }
+
+    @GetMapping(value = "/comment-alarms/stream", params = "token", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeWithStreamToken(@RequestParam String token,
+        @RequestParam(required = false) Long lastEventId,
+        @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader) {
+        return commentAlarmService.stream(oAuthService.findSocialLoginUserByStreamToken(token),
+            Objects.isNull(lastEventIdHeader) ? lastEventId : lastEventIdHeader);
+    }
+
 }
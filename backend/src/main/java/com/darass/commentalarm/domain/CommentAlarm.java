@@ -3,7 +3,13 @@ package com.darass.commentalarm.domain;
 import com.darass.comment.domain.Comment;
 import com.darass.common.domain.BaseTimeEntity;
 import com.darass.user.domain.User;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import javax.persistence.CascadeType;
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
@@ -11,9 +17,11 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
+import javax.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,8 +29,16 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @Entity
+@Table(indexes = {
+    @Index(name = "comment_alarm_idx_receiver_created_date", columnList = "receiver_id, created_date, id"),
+    @Index(name = "comment_alarm_idx_target_comment", columnList = "target_comment_id, receiver_id, created_date"),
+    @Index(name = "comment_alarm_idx_type_created_date", columnList = "comment_alarm_type, created_date")
+})
 public class CommentAlarm extends BaseTimeEntity {
 
+    private static final int MAX_RECENT_SENDER_COUNT = 3;
+    private static final String RECENT_SENDER_ID_DELIMITER = ",";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -42,6 +58,13 @@ public class CommentAlarm extends BaseTimeEntity {
     @JoinColumn(name = "comment_id")
     private Comment comment;
 
+    private Long targetCommentId;
+
+    private int senderCount;
+
+    @Column(length = 255)
+    private String recentSenderIds;
+
     @Builder
     public CommentAlarm(Long id, CommentAlarmType commentAlarmType, User sender, User receiver, Comment comment) {
         this.id = id;
@@ -49,6 +72,68 @@ public class CommentAlarm extends BaseTimeEntity {
         this.sender = sender;
         this.receiver = receiver;
         this.comment = comment;
+        this.targetCommentId = findTargetCommentId(commentAlarmType, comment);
+        this.senderCount = 1;
+        if (Objects.nonNull(sender) && Objects.nonNull(sender.getId())) {
+            this.recentSenderIds = String.valueOf(sender.getId());
+        }
+    }
+
+    public boolean isAggregatable() {
+        return Objects.nonNull(targetCommentId);
+    }
+
+    // 좋아요 알람의 보낸 사람 수는 댓글의 좋아요 수로 정해, 좋아요를 취소했다가 다시 눌러도 늘어나지 않는다.
+    public void updateLikerCount(int likerCount) {
+        this.senderCount = likerCount;
+    }
+
+    // 좋아요 알람의 senderCount는 새 알람의 좋아요 수를 따르고, 답글 알람의 senderCount는 묶인 답글 수로 답글마다 늘린다.
+    // recentSenderIds는 화면에 보여 줄 최근 송신자일 뿐이라 개수를 세는 데 쓰지 않는다.
+    public boolean aggregate(CommentAlarm commentAlarm) {
+        boolean senderChanged = !Objects.equals(this.sender.getId(), commentAlarm.sender.getId());
+        this.comment = commentAlarm.comment;
+        this.sender = commentAlarm.sender;
+        addRecentSender(commentAlarm.sender);
+        if (commentAlarmType == CommentAlarmType.CREATE_COMMENT_LIKE) {
+            int previousSenderCount = this.senderCount;
+            this.senderCount = commentAlarm.senderCount;
+            return senderChanged || previousSenderCount != this.senderCount;
+        }
+        this.senderCount++;
+        return true;
+    }
+
+    public List<Long> getRecentSenderIds() {
+        if (Objects.isNull(recentSenderIds) || recentSenderIds.isEmpty()) {
+            return new LinkedList<>();
+        }
+        return Arrays.stream(recentSenderIds.split(RECENT_SENDER_ID_DELIMITER))
+            .map(Long::valueOf)
+            .collect(Collectors.toCollection(LinkedList::new));
+    }
+
+    private void addRecentSender(User sender) {
+        List<Long> senderIds = getRecentSenderIds();
+        senderIds.remove(sender.getId());
+        senderIds.add(0, sender.getId());
+        this.recentSenderIds = senderIds.stream()
+            .limit(MAX_RECENT_SENDER_COUNT)
+            .map(String::valueOf)
+            .collect(Collectors.joining(RECENT_SENDER_ID_DELIMITER));
+    }
+
+    private static Long findTargetCommentId(CommentAlarmType commentAlarmType, Comment comment) {
+        if (Objects.isNull(comment)) {
+            return null;
+        }
+        if (commentAlarmType == CommentAlarmType.CREATE_COMMENT_LIKE) {
+            return comment.getId();
+        }
+        if (commentAlarmType == CommentAlarmType.CREATE_SUB_COMMENT && Objects.nonNull(comment.getParent())) {
+            return comment.getParent().getId();
+        }
+        return null;
     }
 
 }
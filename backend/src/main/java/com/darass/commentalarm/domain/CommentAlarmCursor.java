@@ -0,0 +1,48 @@
+package com.darass.commentalarm.domain;
+
+import com.darass.exception.ExceptionWithMessageAndCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CommentAlarmCursor {
+
+    private static final String DELIMITER = ",";
+    private static final LocalDateTime LATEST_CREATED_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final LocalDateTime createdDate;
+    private final long id;
+
+    public static CommentAlarmCursor of(CommentAlarm commentAlarm) {
+        return new CommentAlarmCursor(commentAlarm.getCreatedDate(), commentAlarm.getId());
+    }
+
+    public static CommentAlarmCursor first() {
+        return new CommentAlarmCursor(LATEST_CREATED_DATE, Long.MAX_VALUE);
+    }
+
+    public static CommentAlarmCursor decode(String cursor) {
+        if (Objects.isNull(cursor) || cursor.isBlank()) {
+            return first();
+        }
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split(DELIMITER);
+            return new CommentAlarmCursor(LocalDateTime.parse(values[0]), Long.parseLong(values[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeParseException e) {
+            throw ExceptionWithMessageAndCode.INVALID_CURSOR.getException();
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString((createdDate + DELIMITER + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
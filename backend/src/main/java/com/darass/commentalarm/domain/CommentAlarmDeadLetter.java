@@ -0,0 +1,36 @@
+package com.darass.commentalarm.domain;
+
+import com.darass.common.domain.BaseTimeEntity;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@Entity
+public class CommentAlarmDeadLetter extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long commentAlarmId;
+
+    private Long receiverId;
+
+    @Column(length = 2000)
+    private String payload;
+
+    private int attemptCount;
+
+    public CommentAlarmDeadLetter(CommentAlarmOutbox outbox) {
+        this.commentAlarmId = outbox.getCommentAlarm().getId();
+        this.receiverId = outbox.getReceiverId();
+        this.payload = outbox.getPayload();
+        this.attemptCount = outbox.getAttemptCount();
+    }
+}
@@ -1,10 +1,18 @@
 package com.darass.commentalarm.domain;
 
-import com.darass.commentalarm.dto.CommentAlarmResponse;
-import com.darass.user.domain.User;
+import com.darass.commentalarm.infrastructure.CommentAlarmSseHub;
+import com.darass.common.StompSessionRegistry;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
 
 @AllArgsConstructor
 @Component
@@ -15,13 +23,32 @@ public class CommentAlarmMachine {
 
     private SimpMessagingTemplate simpMessagingTemplate;
 
-    public void sendMessage(CommentAlarm commentAlarm) {
-        User receiver = commentAlarm.getReceiver();
-        receiver.changeHasRecentAlarm(true);
-        CommentAlarmResponse commentAlarmResponse = CommentAlarmResponse.of(commentAlarm);
+    private StompSessionRegistry stompSessionRegistry;
 
-        simpMessagingTemplate.convertAndSend(QUEUE_MAIN + receiver.getId(), commentAlarmResponse);
-        simpMessagingTemplate.convertAndSend(QUEUE_MODULE + receiver.getId(), commentAlarmResponse);
+    private CommentAlarmSseHub commentAlarmSseHub;
+
+    public void sendPayload(Long receiverId, byte[] payload) {
+        send(findSubscribedDestinations(receiverId), payload);
+        commentAlarmSseHub.send(receiverId, payload);
+    }
+
+    private List<String> findSubscribedDestinations(Long receiverId) {
+        if (!stompSessionRegistry.isAlarmSubscriber(receiverId)) {
+            return Collections.emptyList();
+        }
+        return Stream.of(QUEUE_MAIN + receiverId, QUEUE_MODULE + receiverId)
+            .filter(stompSessionRegistry::hasSubscriber)
+            .collect(Collectors.toList());
+    }
+
+    private void send(List<String> destinations, byte[] payload) {
+        for (String destination : destinations) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setLeaveMutable(true);
+            simpMessagingTemplate
+                .send(destination, MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+        }
     }
 
 }
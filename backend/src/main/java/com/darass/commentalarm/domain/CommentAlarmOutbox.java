@@ -0,0 +1,53 @@
+package com.darass.commentalarm.domain;
+
+import com.darass.common.domain.BaseTimeEntity;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.OneToOne;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@Entity
+public class CommentAlarmOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "comment_alarm_id")
+    private CommentAlarm commentAlarm;
+
+    private Long receiverId;
+
+    @Column(length = 2000)
+    private String payload;
+
+    private int attemptCount;
+
+    @Column(columnDefinition = "TIMESTAMP")
+    private LocalDateTime dispatchAfter;
+
+    public CommentAlarmOutbox(CommentAlarm commentAlarm, String payload) {
+        this(commentAlarm, payload, null);
+    }
+
+    public CommentAlarmOutbox(CommentAlarm commentAlarm, String payload, LocalDateTime dispatchAfter) {
+        this.commentAlarm = commentAlarm;
+        this.receiverId = commentAlarm.getReceiver().getId();
+        this.payload = payload;
+        this.dispatchAfter = dispatchAfter;
+    }
+
+    public void failDelivery() {
+        this.attemptCount++;
+    }
+}
@@ -0,0 +1,30 @@
+package com.darass.commentalarm.domain;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+public class CommentAlarmUnreadState {
+
+    @Id
+    private Long userId;
+
+    private int unreadCount;
+
+    private long lastSeenAlarmId;
+
+    public void increaseUnreadCount(int count) {
+        this.unreadCount += count;
+    }
+
+    public void markRead(long lastSeenAlarmId) {
+        this.unreadCount = 0;
+        this.lastSeenAlarmId = lastSeenAlarmId;
+    }
+}
@@ -0,0 +1,15 @@
+package com.darass.commentalarm.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentAlarmCursorResponses {
+
+    private String nextCursor;
+    private List<CommentAlarmMessage> commentAlarms;
+}
@@ -0,0 +1,62 @@
+package com.darass.commentalarm.dto;
+
+import com.darass.comment.domain.Comment;
+import com.darass.commentalarm.domain.CommentAlarm;
+import com.darass.commentalarm.domain.CommentAlarmType;
+import com.darass.user.domain.User;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentAlarmMessage {
+
+    private static final int CONTENT_PREVIEW_LENGTH = 50;
+
+    private Long id;
+
+    @JsonDeserialize(using = LocalDateTimeDeserializer.class)
+    private LocalDateTime createdDate;
+
+    private CommentAlarmType commentAlarmType;
+
+    private Long receiverId;
+
+    private Long senderId;
+
+    private String senderNickName;
+
+    private String senderProfileImageUrl;
+
+    private Long commentId;
+
+    private String url;
+
+    private String contentPreview;
+
+    private int senderCount;
+
+    private List<Long> recentSenderIds;
+
+    public static CommentAlarmMessage of(CommentAlarm commentAlarm) {
+        User sender = commentAlarm.getSender();
+        Comment comment = commentAlarm.getComment();
+        return new CommentAlarmMessage(commentAlarm.getId(), commentAlarm.getCreatedDate(),
+            commentAlarm.getCommentAlarmType(), commentAlarm.getReceiver().getId(), sender.getId(),
+            sender.getNickName(), sender.getProfileImageUrl(), comment.getId(), comment.getUrl(),
+            previewOf(comment.getContent()), commentAlarm.getSenderCount(), commentAlarm.getRecentSenderIds());
+    }
+
+    private static String previewOf(String content) {
+        if (content == null || content.length() <= CONTENT_PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, CONTENT_PREVIEW_LENGTH);
+    }
+}
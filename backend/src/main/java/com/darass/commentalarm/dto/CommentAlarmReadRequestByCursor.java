@@ -0,0 +1,12 @@
+package com.darass.commentalarm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CommentAlarmReadRequestByCursor {
+
+    private String cursor;
+    private Integer size;
+}
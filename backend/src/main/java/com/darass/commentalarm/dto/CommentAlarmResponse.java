@@ -7,6 +7,7 @@ import com.darass.user.dto.UserResponse;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -29,13 +30,18 @@ public class CommentAlarmResponse {
 
     private CommentResponse comment;
 
+    private int senderCount;
+
+    private List<Long> recentSenderIds;
+
     public static CommentAlarmResponse of(CommentAlarm commentAlarm) {
         UserResponse senderResponse = UserResponse.of(commentAlarm.getSender());
         UserResponse receiverResponse = UserResponse.of(commentAlarm.getReceiver());
         CommentResponse commentResponse = CommentResponse.of(commentAlarm.getComment(), senderResponse);
 
         return new CommentAlarmResponse(commentAlarm.getId(), commentAlarm.getCreatedDate(),
-            commentAlarm.getCommentAlarmType(), senderResponse, receiverResponse, commentResponse);
+            commentAlarm.getCommentAlarmType(), senderResponse, receiverResponse, commentResponse,
+            commentAlarm.getSenderCount(), commentAlarm.getRecentSenderIds());
     }
 
 }
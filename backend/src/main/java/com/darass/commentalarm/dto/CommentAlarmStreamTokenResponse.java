@@ -0,0 +1,13 @@
+package com.darass.commentalarm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentAlarmStreamTokenResponse {
+
+    private String streamToken;
+}
@@ -0,0 +1,14 @@
+package com.darass.commentalarm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentAlarmUnreadCountResponse {
+
+    private int unreadCount;
+    private boolean hasMore;
+}
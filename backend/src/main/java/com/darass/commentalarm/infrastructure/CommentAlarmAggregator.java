@@ -0,0 +1,64 @@
+package com.darass.commentalarm.infrastructure;
+
+import com.darass.comment.repository.CommentRepository;
+import com.darass.commentalarm.domain.CommentAlarm;
+import com.darass.commentalarm.domain.CommentAlarmType;
+import com.darass.commentalarm.repository.CommentAlarmRepository;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CommentAlarmAggregator {
+
+    private final CommentAlarmRepository commentAlarmRepository;
+    private final CommentRepository commentRepository;
+    private final CommentAlarmDispatcher commentAlarmDispatcher;
+    private final CommentAlarmUnreadCounter commentAlarmUnreadCounter;
+    private final long windowMillis;
+
+    public CommentAlarmAggregator(CommentAlarmRepository commentAlarmRepository, CommentRepository commentRepository,
+        CommentAlarmDispatcher commentAlarmDispatcher, CommentAlarmUnreadCounter commentAlarmUnreadCounter,
+        @Value("${comment-alarm.aggregation.window-millis:600000}") long windowMillis) {
+        this.commentAlarmRepository = commentAlarmRepository;
+        this.commentRepository = commentRepository;
+        this.commentAlarmDispatcher = commentAlarmDispatcher;
+        this.commentAlarmUnreadCounter = commentAlarmUnreadCounter;
+        this.windowMillis = windowMillis;
+    }
+
+    // 알람 범위 대신 대상 댓글 행과 묶을 알람 행만 기본 키로 잠가, 처음 알람을 만드는 요청끼리 간격 잠금으로 교착되지 않는다.
+    public void save(CommentAlarm commentAlarm) {
+        if (!commentAlarm.isAggregatable()) {
+            saveNew(commentAlarm);
+            return;
+        }
+        Integer likeCount = commentRepository.findLikeCountForUpdate(commentAlarm.getTargetCommentId());
+        if (commentAlarm.getCommentAlarmType() == CommentAlarmType.CREATE_COMMENT_LIKE) {
+            commentAlarm.updateLikerCount(likeCount);
+        }
+        Long receiverId = commentAlarm.getReceiver().getId();
+        Optional<CommentAlarm> aggregatableAlarm = commentAlarmRepository.findAggregatableIds(
+            commentAlarm.getTargetCommentId(), receiverId, commentAlarm.getCommentAlarmType(),
+            LocalDateTime.now().minus(windowMillis, ChronoUnit.MILLIS),
+            commentAlarmUnreadCounter.findLastSeenAlarmId(receiverId), PageRequest.of(0, 1)).stream()
+            .findFirst()
+            .flatMap(commentAlarmRepository::findForUpdateById);
+        if (aggregatableAlarm.isEmpty()) {
+            saveNew(commentAlarm);
+            return;
+        }
+        CommentAlarm aggregatedAlarm = aggregatableAlarm.get();
+        if (aggregatedAlarm.aggregate(commentAlarm)) {
+            commentAlarmDispatcher.enqueueAggregated(aggregatedAlarm);
+        }
+    }
+
+    private void saveNew(CommentAlarm commentAlarm) {
+        commentAlarmRepository.save(commentAlarm);
+        commentAlarmDispatcher.enqueue(commentAlarm);
+    }
+}
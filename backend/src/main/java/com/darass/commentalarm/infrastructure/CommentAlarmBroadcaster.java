@@ -0,0 +1,6 @@
+package com.darass.commentalarm.infrastructure;
+
+public interface CommentAlarmBroadcaster {
+
+    void broadcast(Long receiverId, byte[] payload);
+}
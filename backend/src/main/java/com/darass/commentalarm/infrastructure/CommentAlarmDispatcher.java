@@ -0,0 +1,205 @@
+package com.darass.commentalarm.infrastructure;
+
+import com.darass.commentalarm.domain.CommentAlarm;
+import com.darass.commentalarm.domain.CommentAlarmDeadLetter;
+import com.darass.commentalarm.domain.CommentAlarmOutbox;
+import com.darass.commentalarm.dto.CommentAlarmMessage;
+import com.darass.commentalarm.repository.CommentAlarmDeadLetterRepository;
+import com.darass.commentalarm.repository.CommentAlarmOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class CommentAlarmDispatcher {
+
+    private final CommentAlarmOutboxRepository commentAlarmOutboxRepository;
+    private final CommentAlarmDeadLetterRepository commentAlarmDeadLetterRepository;
+    private final CommentAlarmBroadcaster commentAlarmBroadcaster;
+    private final CommentAlarmUnreadCounter commentAlarmUnreadCounter;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttemptCount;
+    private final long retryDelayMillis;
+    private final long aggregatedPushDelayMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean();
+    private final AtomicReference<LocalDateTime> delayedDispatchAt = new AtomicReference<>();
+
+    public CommentAlarmDispatcher(CommentAlarmOutboxRepository commentAlarmOutboxRepository,
+        CommentAlarmDeadLetterRepository commentAlarmDeadLetterRepository,
+        CommentAlarmBroadcaster commentAlarmBroadcaster, CommentAlarmUnreadCounter commentAlarmUnreadCounter,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager,
+        @Value("${comment-alarm.dispatch.batch-size:100}") int batchSize,
+        @Value("${comment-alarm.dispatch.max-attempt-count:5}") int maxAttemptCount,
+        @Value("${comment-alarm.dispatch.retry-delay-millis:5000}") long retryDelayMillis,
+        @Value("${comment-alarm.aggregation.push-delay-millis:5000}") long aggregatedPushDelayMillis) {
+        this.commentAlarmOutboxRepository = commentAlarmOutboxRepository;
+        this.commentAlarmDeadLetterRepository = commentAlarmDeadLetterRepository;
+        this.commentAlarmBroadcaster = commentAlarmBroadcaster;
+        this.commentAlarmUnreadCounter = commentAlarmUnreadCounter;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttemptCount = maxAttemptCount;
+        this.retryDelayMillis = retryDelayMillis;
+        this.aggregatedPushDelayMillis = aggregatedPushDelayMillis;
+    }
+
+    // 알람은 댓글과 같은 트랜잭션에서 outbox에 쌓고, 커밋된 뒤에만 별도 스레드에서 전송한다.
+    public void enqueue(CommentAlarm commentAlarm) {
+        commentAlarmUnreadCounter.increase(commentAlarm.getReceiver().getId(), commentAlarm.getId());
+        commentAlarmOutboxRepository.save(new CommentAlarmOutbox(commentAlarm, toPayload(commentAlarm)));
+        runAfterCommit(() -> scheduleDispatch(0));
+    }
+
+    // 이미 읽지 않은 알람으로 센 알람이므로 읽지 않은 알람 수는 늘리지 않는다.
+    public void enqueueAggregated(CommentAlarm commentAlarm) {
+        String payload = toPayload(commentAlarm);
+        if (commentAlarmOutboxRepository.updatePendingPayload(commentAlarm.getId(), payload, maxAttemptCount) > 0) {
+            return;
+        }
+        LocalDateTime dispatchAfter = LocalDateTime.now().plus(aggregatedPushDelayMillis, ChronoUnit.MILLIS);
+        commentAlarmOutboxRepository.save(new CommentAlarmOutbox(commentAlarm, payload, dispatchAfter));
+        runAfterCommit(() -> executor.schedule(() -> scheduleDispatch(0), aggregatedPushDelayMillis,
+            TimeUnit.MILLISECONDS));
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private String toPayload(CommentAlarm commentAlarm) {
+        try {
+            return objectMapper.writeValueAsString(CommentAlarmMessage.of(commentAlarm));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void dispatchRemaining() {
+        scheduleDispatch(0);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void scheduleDispatch(long delayMillis) {
+        if (dispatchScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::dispatch, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void dispatch() {
+        dispatchScheduled.set(false);
+        try {
+            DispatchResult result;
+            do {
+                result = transactionTemplate.execute(status -> dispatchBatch());
+            } while (result.full && !result.failure);
+            if (result.failure) {
+                scheduleDispatch(retryDelayMillis);
+                return;
+            }
+            scheduleDelayedDispatch();
+        } catch (RuntimeException e) {
+            log.error("댓글 알람 전송에 실패했습니다.", e);
+            scheduleDispatch(retryDelayMillis);
+        }
+    }
+
+    // 재시작 전에 쌓인 묶인 알람처럼 예약된 전송이 없는 outbox도, 가장 이른 전송 시각에 다시 전송한다.
+    private void scheduleDelayedDispatch() {
+        commentAlarmOutboxRepository.findEarliestDispatchAfter(maxAttemptCount, LocalDateTime.now())
+            .filter(this::reserveDelayedDispatch)
+            .ifPresent(dispatchAfter -> executor.schedule(() -> {
+                delayedDispatchAt.compareAndSet(dispatchAfter, null);
+                scheduleDispatch(0);
+            }, Math.max(0, ChronoUnit.MILLIS.between(LocalDateTime.now(), dispatchAfter)), TimeUnit.MILLISECONDS));
+    }
+
+    private boolean reserveDelayedDispatch(LocalDateTime dispatchAfter) {
+        LocalDateTime reserved = delayedDispatchAt.get();
+        return (reserved == null || dispatchAfter.isBefore(reserved))
+            && delayedDispatchAt.compareAndSet(reserved, dispatchAfter);
+    }
+
+    private DispatchResult dispatchBatch() {
+        List<CommentAlarmOutbox> outboxes = commentAlarmOutboxRepository
+            .findDispatchable(maxAttemptCount, LocalDateTime.now(), PageRequest.of(0, batchSize));
+        List<CommentAlarmOutbox> deliveredOutboxes = new ArrayList<>();
+        List<CommentAlarmOutbox> deadOutboxes = new ArrayList<>();
+        for (CommentAlarmOutbox outbox : outboxes) {
+            try {
+                commentAlarmBroadcaster.broadcast(outbox.getReceiverId(),
+                    outbox.getPayload().getBytes(StandardCharsets.UTF_8));
+                deliveredOutboxes.add(outbox);
+            } catch (RuntimeException e) {
+                log.warn("댓글 알람 전송에 실패했습니다. outbox id: {}", outbox.getId(), e);
+                outbox.failDelivery();
+                if (outbox.getAttemptCount() >= maxAttemptCount) {
+                    deadOutboxes.add(outbox);
+                }
+            }
+        }
+        moveToDeadLetters(deadOutboxes);
+        commentAlarmOutboxRepository.deleteAllInBatch(deliveredOutboxes);
+        return new DispatchResult(outboxes.size() == batchSize,
+            deliveredOutboxes.size() + deadOutboxes.size() < outboxes.size());
+    }
+
+    private void moveToDeadLetters(List<CommentAlarmOutbox> deadOutboxes) {
+        if (deadOutboxes.isEmpty()) {
+            return;
+        }
+        log.error("최대 시도 횟수까지 전송하지 못한 댓글 알람 {}개를 dead letter로 옮겼습니다.", deadOutboxes.size());
+        commentAlarmDeadLetterRepository.saveAll(deadOutboxes.stream()
+            .map(CommentAlarmDeadLetter::new)
+            .collect(Collectors.toList()));
+        commentAlarmOutboxRepository.deleteAllInBatch(deadOutboxes);
+    }
+
+    @RequiredArgsConstructor
+    private static class DispatchResult {
+
+        private final boolean full;
+        private final boolean failure;
+    }
+}
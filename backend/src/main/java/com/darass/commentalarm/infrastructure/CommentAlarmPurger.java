@@ -0,0 +1,123 @@
+package com.darass.commentalarm.infrastructure;
+
+import com.darass.commentalarm.domain.CommentAlarmType;
+import com.darass.commentalarm.repository.CommentAlarmOutboxRepository;
+import com.darass.commentalarm.repository.CommentAlarmRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class CommentAlarmPurger {
+
+    private final CommentAlarmRepository commentAlarmRepository;
+    private final CommentAlarmOutboxRepository commentAlarmOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<CommentAlarmType, Integer> retentionDays = new EnumMap<>(CommentAlarmType.class);
+    private final int batchSize;
+    private final long pauseMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    public CommentAlarmPurger(CommentAlarmRepository commentAlarmRepository,
+        CommentAlarmOutboxRepository commentAlarmOutboxRepository, PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${comment-alarm.retention.create-comment-days:90}") int createCommentDays,
+        @Value("${comment-alarm.retention.create-sub-comment-days:90}") int createSubCommentDays,
+        @Value("${comment-alarm.retention.create-comment-like-days:30}") int createCommentLikeDays,
+        @Value("${comment-alarm.purge.batch-size:500}") int batchSize,
+        @Value("${comment-alarm.purge.pause-millis:200}") long pauseMillis,
+        @Value("${comment-alarm.purge.interval-millis:3600000}") long intervalMillis) {
+        this.commentAlarmRepository = commentAlarmRepository;
+        this.commentAlarmOutboxRepository = commentAlarmOutboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.retentionDays.put(CommentAlarmType.CREATE_COMMENT, createCommentDays);
+        this.retentionDays.put(CommentAlarmType.CREATE_SUB_COMMENT, createSubCommentDays);
+        this.retentionDays.put(CommentAlarmType.CREATE_COMMENT_LIKE, createCommentLikeDays);
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        executor.scheduleWithFixedDelay(this::purgeSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 보관 기간을 0 이하로 두면 그 종류의 알람은 지우지 않는다.
+    public long purge() {
+        long purgedCount = 0;
+        for (Map.Entry<CommentAlarmType, Integer> retention : retentionDays.entrySet()) {
+            if (retention.getValue() > 0) {
+                purgedCount += purge(retention.getKey(), LocalDateTime.now().minusDays(retention.getValue()));
+            }
+        }
+        return purgedCount;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private long purge(CommentAlarmType commentAlarmType, LocalDateTime threshold) {
+        Counter purgedRows = meterRegistry.counter("comment.alarm.purge.rows", "type", commentAlarmType.name());
+        Timer batchLatency = meterRegistry.timer("comment.alarm.purge.batch.latency", "type",
+            commentAlarmType.name());
+        long purgedCount = 0;
+        int deletedCount;
+        do {
+            deletedCount = Objects.requireNonNull(batchLatency.record(() -> deleteBatch(commentAlarmType, threshold)));
+            purgedRows.increment(deletedCount);
+            purgedCount += deletedCount;
+        } while (deletedCount == batchSize && pause());
+        return purgedCount;
+    }
+
+    private Integer deleteBatch(CommentAlarmType commentAlarmType, LocalDateTime threshold) {
+        return transactionTemplate.execute(status -> deleteExpired(commentAlarmType, threshold));
+    }
+
+    private int deleteExpired(CommentAlarmType commentAlarmType, LocalDateTime threshold) {
+        List<Long> ids = commentAlarmRepository.findExpiredIds(commentAlarmType, threshold,
+            PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        commentAlarmOutboxRepository.deleteByCommentAlarmIdIn(ids);
+        return commentAlarmRepository.deleteByIdIn(ids);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void purgeSafely() {
+        try {
+            long purgedCount = purge();
+            if (purgedCount > 0) {
+                log.info("보관 기간이 지난 댓글 알람 {}개를 지웠습니다.", purgedCount);
+            }
+        } catch (RuntimeException e) {
+            log.error("보관 기간이 지난 댓글 알람 삭제에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.darass.commentalarm.infrastructure;
+
+import com.darass.commentalarm.dto.CommentAlarmMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.publisher.ConnectableFlux;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+@Component
+public class CommentAlarmSseHub {
+
+    public static final String EVENT_NAME = "comment-alarm";
+
+    private final ObjectMapper objectMapper;
+    private final Duration heartbeatInterval;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final Map<Long, Sinks.Many<ServerSentEvent<String>>> sinks = new ConcurrentHashMap<>();
+
+    public CommentAlarmSseHub(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+        @Value("${comment-alarm.sse.heartbeat-millis:15000}") long heartbeatMillis,
+        @Value("${comment-alarm.sse.buffer-size:32}") int bufferSize,
+        @Value("${comment-alarm.sse.timeout-millis:0}") long timeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.heartbeatInterval = Duration.ofMillis(heartbeatMillis);
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        Gauge.builder("sse.alarm.subscribed.users", sinks, Map::size)
+            .register(meterRegistry);
+    }
+
+    public boolean hasSubscriber(Long userId) {
+        return sinks.containsKey(userId);
+    }
+
+    // 놓친 알람을 읽는 동안 도착한 알람도 잃지 않도록 실시간 구독을 먼저 연결하고, 이미 보낸 id 이하는 건너뛴다.
+    public Flux<ServerSentEvent<String>> subscribe(Long userId, Supplier<Slice<CommentAlarmMessage>> missedAlarms) {
+        AtomicReference<Disposable> connection = new AtomicReference<>();
+        ConnectableFlux<ServerSentEvent<String>> live = connect(userId, connection);
+        Slice<CommentAlarmMessage> missed;
+        try {
+            missed = missedAlarms.get();
+        } catch (RuntimeException e) {
+            release(userId, connection.get());
+            throw e;
+        }
+        Flux<ServerSentEvent<String>> replay = Flux.fromIterable(missed.getContent())
+            .map(this::toEvent);
+        // 놓친 알람이 더 남아 있으면 여기까지만 보내고 닫아, 클라이언트가 마지막으로 받은 id부터 다시 연결해 이어 받게 한다.
+        if (missed.hasNext()) {
+            release(userId, connection.get());
+            return replay;
+        }
+        long lastSentId = missed.stream()
+            .mapToLong(CommentAlarmMessage::getId)
+            .max()
+            .orElse(0L);
+        Flux<ServerSentEvent<String>> events = replay
+            .concatWith(live.filter(event -> Long.parseLong(event.id()) > lastSentId))
+            .doFinally(signal -> release(userId, connection.get()));
+        Flux<ServerSentEvent<String>> heartbeats = Flux.interval(heartbeatInterval)
+            .map(tick -> ServerSentEvent.<String>builder().comment("heartbeat").build());
+        return Flux.merge(events, heartbeats);
+    }
+
+    // 타임아웃이 0 이하면 끊지 않고, 끊긴 연결은 하트비트 전송이 실패할 때 정리한다.
+    public SseEmitter toEmitter(Flux<ServerSentEvent<String>> events) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Disposable subscription = events.subscribe(event -> send(emitter, event), emitter::completeWithError,
+            emitter::complete);
+        emitter.onCompletion(subscription::dispose);
+        return emitter;
+    }
+
+    public void send(Long receiverId, byte[] payload) {
+        Sinks.Many<ServerSentEvent<String>> sink = sinks.get(receiverId);
+        if (Objects.isNull(sink)) {
+            return;
+        }
+        ServerSentEvent<String> event = toEvent(readId(payload), new String(payload, StandardCharsets.UTF_8));
+        synchronized (sink) {
+            sink.tryEmitNext(event);
+        }
+    }
+
+    private ConnectableFlux<ServerSentEvent<String>> connect(Long userId, AtomicReference<Disposable> connection) {
+        AtomicReference<ConnectableFlux<ServerSentEvent<String>>> live = new AtomicReference<>();
+        sinks.compute(userId, (key, sink) -> {
+            if (Objects.isNull(sink)) {
+                sink = Sinks.many().multicast().directBestEffort();
+            }
+            live.set(sink.asFlux().replay(bufferSize));
+            connection.set(live.get().connect());
+            return sink;
+        });
+        return live.get();
+    }
+
+    private void release(Long userId, Disposable connection) {
+        if (Objects.nonNull(connection)) {
+            connection.dispose();
+        }
+        sinks.computeIfPresent(userId, (key, sink) -> sink.currentSubscriberCount() == 0 ? null : sink);
+    }
+
+    private void send(SseEmitter emitter, ServerSentEvent<String> event) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (Objects.nonNull(event.comment())) {
+            builder.comment(event.comment());
+        }
+        if (Objects.nonNull(event.data())) {
+            builder.id(event.id())
+                .name(event.event())
+                .data(event.data());
+        }
+        try {
+            emitter.send(builder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ServerSentEvent<String> toEvent(CommentAlarmMessage commentAlarmMessage) {
+        try {
+            return toEvent(commentAlarmMessage.getId(), objectMapper.writeValueAsString(commentAlarmMessage));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ServerSentEvent<String> toEvent(Long id, String data) {
+        return ServerSentEvent.builder(data)
+            .id(String.valueOf(id))
+            .event(EVENT_NAME)
+            .build();
+    }
+
+    private Long readId(byte[] payload) {
+        try {
+            return objectMapper.readTree(payload).path("id").asLong();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.darass.commentalarm.infrastructure;
+
+import com.darass.commentalarm.domain.CommentAlarmUnreadState;
+import com.darass.commentalarm.repository.CommentAlarmRepository;
+import com.darass.commentalarm.repository.CommentAlarmUnreadStateRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class CommentAlarmUnreadCounter {
+
+    private final CommentAlarmUnreadStateRepository commentAlarmUnreadStateRepository;
+    private final CommentAlarmRepository commentAlarmRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, List<Long>> pendingAlarmIds = new ConcurrentHashMap<>();
+    private final long flushMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    public CommentAlarmUnreadCounter(CommentAlarmUnreadStateRepository commentAlarmUnreadStateRepository,
+        CommentAlarmRepository commentAlarmRepository, PlatformTransactionManager transactionManager,
+        @Value("${comment-alarm.unread.flush-millis:1000}") long flushMillis) {
+        this.commentAlarmUnreadStateRepository = commentAlarmUnreadStateRepository;
+        this.commentAlarmRepository = commentAlarmRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushMillis = flushMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        executor.scheduleWithFixedDelay(this::flushSafely, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void increase(Long receiverId, Long alarmId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addPending(receiverId, Collections.singletonList(alarmId));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addPending(receiverId, Collections.singletonList(alarmId));
+            }
+        });
+    }
+
+    public int findUnreadCount(Long userId) {
+        Optional<CommentAlarmUnreadState> state = commentAlarmUnreadStateRepository.findById(userId);
+        long lastSeenAlarmId = state.map(CommentAlarmUnreadState::getLastSeenAlarmId).orElse(0L);
+        int storedCount = state.map(CommentAlarmUnreadState::getUnreadCount).orElse(0);
+        return storedCount + countAfter(pendingAlarmIds.getOrDefault(userId, Collections.emptyList()),
+            lastSeenAlarmId);
+    }
+
+    public boolean hasUnread(Long userId) {
+        return findUnreadCount(userId) > 0;
+    }
+
+    public long findLastSeenAlarmId(Long userId) {
+        return commentAlarmUnreadStateRepository.findById(userId)
+            .map(CommentAlarmUnreadState::getLastSeenAlarmId)
+            .orElse(0L);
+    }
+
+    // 읽음 처리는 마지막으로 본 알람 id를 한 번만 기록하고, 어느 서버에서든 아직 반영하지 않은 알람은 반영할 때 걸러진다.
+    public void markRead(Long userId) {
+        long lastSeenAlarmId = commentAlarmRepository.findIdsByReceiverId(userId, PageRequest.of(0, 1)).stream()
+            .findFirst()
+            .orElse(0L);
+        transactionTemplate.executeWithoutResult(status -> {
+            Optional<CommentAlarmUnreadState> state = commentAlarmUnreadStateRepository.findForUpdateByUserId(userId);
+            if (state.isPresent()) {
+                state.get().markRead(lastSeenAlarmId);
+                return;
+            }
+            commentAlarmUnreadStateRepository.save(new CommentAlarmUnreadState(userId, 0, lastSeenAlarmId));
+        });
+    }
+
+    public void flush() {
+        Map<Long, List<Long>> alarmIds = drain();
+        if (alarmIds.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> alarmIds.forEach(this::apply));
+        } catch (RuntimeException e) {
+            alarmIds.forEach(this::addPending);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        flushSafely();
+    }
+
+    // 읽음 처리와 엇갈려 쓰지 않도록 행을 잠그고 읽으며, 서버끼리 교착되지 않게 유저 id 순서로 잠근다.
+    private Map<Long, List<Long>> drain() {
+        Map<Long, List<Long>> alarmIds = new TreeMap<>();
+        for (Long userId : new ArrayList<>(pendingAlarmIds.keySet())) {
+            List<Long> ids = pendingAlarmIds.remove(userId);
+            if (Objects.nonNull(ids)) {
+                alarmIds.put(userId, ids);
+            }
+        }
+        return alarmIds;
+    }
+
+    private void apply(Long userId, List<Long> alarmIds) {
+        Optional<CommentAlarmUnreadState> state = commentAlarmUnreadStateRepository.findForUpdateByUserId(userId);
+        if (state.isPresent()) {
+            state.get().increaseUnreadCount(countAfter(alarmIds, state.get().getLastSeenAlarmId()));
+            return;
+        }
+        commentAlarmUnreadStateRepository.save(new CommentAlarmUnreadState(userId, alarmIds.size(), 0L));
+    }
+
+    private void addPending(Long userId, List<Long> alarmIds) {
+        pendingAlarmIds.merge(userId, alarmIds, (pending, added) -> {
+            List<Long> merged = new ArrayList<>(pending);
+            merged.addAll(added);
+            return merged;
+        });
+    }
+
+    private int countAfter(List<Long> alarmIds, long lastSeenAlarmId) {
+        return (int) alarmIds.stream()
+            .filter(alarmId -> alarmId > lastSeenAlarmId)
+            .count();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("읽지 않은 댓글 알람 수 반영에 실패했습니다.", e);
+        }
+    }
+}
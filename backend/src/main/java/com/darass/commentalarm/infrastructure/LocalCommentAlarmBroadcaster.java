@@ -0,0 +1,19 @@
+package com.darass.commentalarm.infrastructure;
+
+import com.darass.commentalarm.domain.CommentAlarmMachine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "websocket.relay.enabled", havingValue = "false", matchIfMissing = true)
+@Component
+public class LocalCommentAlarmBroadcaster implements CommentAlarmBroadcaster {
+
+    private final CommentAlarmMachine commentAlarmMachine;
+
+    @Override
+    public void broadcast(Long receiverId, byte[] payload) {
+        commentAlarmMachine.sendPayload(receiverId, payload);
+    }
+}
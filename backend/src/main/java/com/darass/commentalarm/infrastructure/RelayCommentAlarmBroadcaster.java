@@ -0,0 +1,49 @@
+package com.darass.commentalarm.infrastructure;
+
+import com.darass.commentalarm.domain.CommentAlarmMachine;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@ConditionalOnProperty(name = "websocket.relay.enabled", havingValue = "true")
+@Component
+public class RelayCommentAlarmBroadcaster implements CommentAlarmBroadcaster {
+
+    public static final String RECEIVER_ID_HEADER = "receiverId";
+
+    private final AmqpTemplate amqpTemplate;
+    private final CommentAlarmMachine commentAlarmMachine;
+    private final String exchange;
+
+    public RelayCommentAlarmBroadcaster(AmqpTemplate amqpTemplate, CommentAlarmMachine commentAlarmMachine,
+        @Value("${websocket.relay.exchange:darass.comment-alarm}") String exchange) {
+        this.amqpTemplate = amqpTemplate;
+        this.commentAlarmMachine = commentAlarmMachine;
+        this.exchange = exchange;
+    }
+
+    @Override
+    public void broadcast(Long receiverId, byte[] payload) {
+        Message message = MessageBuilder.withBody(payload)
+            .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+            .setHeader(RECEIVER_ID_HEADER, receiverId)
+            .build();
+        amqpTemplate.send(exchange, "", message);
+    }
+
+    @RabbitListener(bindings = @QueueBinding(value = @Queue,
+        exchange = @Exchange(name = "${websocket.relay.exchange:darass.comment-alarm}", type = ExchangeTypes.FANOUT)))
+    public void receive(Message message) {
+        Number receiverId = message.getMessageProperties().getHeader(RECEIVER_ID_HEADER);
+        commentAlarmMachine.sendPayload(receiverId.longValue(), message.getBody());
+    }
+}
@@ -0,0 +1,8 @@
+package com.darass.commentalarm.repository;
+
+import com.darass.commentalarm.domain.CommentAlarmDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CommentAlarmDeadLetterRepository extends JpaRepository<CommentAlarmDeadLetter, Long> {
+
+}
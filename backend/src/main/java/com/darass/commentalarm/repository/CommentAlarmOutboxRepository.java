@@ -0,0 +1,43 @@
+package com.darass.commentalarm.repository;
+
+import com.darass.commentalarm.domain.CommentAlarmOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface CommentAlarmOutboxRepository extends JpaRepository<CommentAlarmOutbox, Long> {
+
+    // 전송 중인 outbox는 잠가 두어, 묶인 알람의 내용 갱신이 이미 보낸 outbox에 덮어써지지 않게 한다.
+    // 잠금 대기 시간 -2는 SKIP LOCKED로, 다른 서버가 잠근 행은 건너뛰어 같은 알람을 중복으로 보내지 않는다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select cao from CommentAlarmOutbox cao where cao.attemptCount < :maxAttemptCount "
+        + "and (cao.dispatchAfter is null or cao.dispatchAfter <= :now) order by cao.id asc")
+    List<CommentAlarmOutbox> findDispatchable(@Param("maxAttemptCount") int maxAttemptCount,
+        @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("select min(cao.dispatchAfter) from CommentAlarmOutbox cao where cao.attemptCount < :maxAttemptCount "
+        + "and cao.dispatchAfter > :now")
+    Optional<LocalDateTime> findEarliestDispatchAfter(@Param("maxAttemptCount") int maxAttemptCount,
+        @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update CommentAlarmOutbox cao set cao.payload = :payload "
+        + "where cao.commentAlarm.id = :commentAlarmId and cao.dispatchAfter is not null "
+        + "and cao.attemptCount < :maxAttemptCount")
+    int updatePendingPayload(@Param("commentAlarmId") Long commentAlarmId, @Param("payload") String payload,
+        @Param("maxAttemptCount") int maxAttemptCount);
+
+    @Modifying
+    @Query("delete from CommentAlarmOutbox cao where cao.commentAlarm.id in :commentAlarmIds")
+    int deleteByCommentAlarmIdIn(@Param("commentAlarmIds") List<Long> commentAlarmIds);
+}
@@ -1,13 +1,68 @@
 package com.darass.commentalarm.repository;
 
 import com.darass.commentalarm.domain.CommentAlarm;
+import com.darass.commentalarm.domain.CommentAlarmType;
 import com.darass.user.domain.User;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentAlarmRepository extends JpaRepository<CommentAlarm, Long> {
 
+    @EntityGraph(attributePaths = {"sender", "receiver", "comment"})
     List<CommentAlarm> findAllByReceiverAndCreatedDateBetweenOrderByCreatedDateDesc(User receiver, LocalDateTime start, LocalDateTime end);
 
+    @Query("select ca from CommentAlarm ca join fetch ca.sender join fetch ca.comment "
+        + "where ca.receiver.id = :receiverId and ca.id > :lastId order by ca.id asc")
+    Slice<CommentAlarm> findWithSenderAndCommentByReceiverIdAndIdGreaterThan(@Param("receiverId") Long receiverId,
+        @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("select ca from CommentAlarm ca join fetch ca.sender join fetch ca.comment "
+        + "where ca.receiver.id = :receiverId "
+        + "and (ca.createdDate < :createdDate or (ca.createdDate = :createdDate and ca.id < :id)) "
+        + "order by ca.createdDate desc, ca.id desc")
+    Slice<CommentAlarm> findWithSenderAndCommentByReceiverIdBefore(@Param("receiverId") Long receiverId,
+        @Param("createdDate") LocalDateTime createdDate, @Param("id") Long id, Pageable pageable);
+
+    @Query("select ca.id from CommentAlarm ca where ca.receiver.id = :receiverId "
+        + "and (ca.createdDate > :createdDate or (ca.createdDate = :createdDate and ca.id > :id)) "
+        + "order by ca.createdDate desc, ca.id desc")
+    List<Long> findIdsByReceiverIdAfter(@Param("receiverId") Long receiverId,
+        @Param("createdDate") LocalDateTime createdDate, @Param("id") Long id, Pageable pageable);
+
+    @Query("select ca.id from CommentAlarm ca where ca.receiver.id = :receiverId "
+        + "order by ca.createdDate desc, ca.id desc")
+    List<Long> findIdsByReceiverId(@Param("receiverId") Long receiverId, Pageable pageable);
+
+    Optional<CommentAlarm> findByIdAndReceiverId(Long id, Long receiverId);
+
+    @Query("select ca.id from CommentAlarm ca where ca.targetCommentId = :targetCommentId "
+        + "and ca.receiver.id = :receiverId and ca.commentAlarmType = :commentAlarmType "
+        + "and ca.createdDate >= :since and ca.id > :lastSeenAlarmId order by ca.id desc")
+    List<Long> findAggregatableIds(@Param("targetCommentId") Long targetCommentId,
+        @Param("receiverId") Long receiverId, @Param("commentAlarmType") CommentAlarmType commentAlarmType,
+        @Param("since") LocalDateTime since, @Param("lastSeenAlarmId") Long lastSeenAlarmId, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select ca from CommentAlarm ca where ca.id = :id")
+    Optional<CommentAlarm> findForUpdateById(@Param("id") Long id);
+
+    @Query("select ca.id from CommentAlarm ca where ca.commentAlarmType = :commentAlarmType "
+        + "and ca.createdDate < :threshold order by ca.createdDate asc")
+    List<Long> findExpiredIds(@Param("commentAlarmType") CommentAlarmType commentAlarmType,
+        @Param("threshold") LocalDateTime threshold, Pageable pageable);
+
+    @Modifying
+    @Query("delete from CommentAlarm ca where ca.id in :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
 }
\ No newline at end of file
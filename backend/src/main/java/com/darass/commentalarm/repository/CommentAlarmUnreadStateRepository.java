@@ -0,0 +1,16 @@
+package com.darass.commentalarm.repository;
+
+import com.darass.commentalarm.domain.CommentAlarmUnreadState;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CommentAlarmUnreadStateRepository extends JpaRepository<CommentAlarmUnreadState, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from CommentAlarmUnreadState s where s.userId = :userId")
+    Optional<CommentAlarmUnreadState> findForUpdateByUserId(@Param("userId") Long userId);
+}
@@ -1,22 +1,46 @@
 package com.darass.commentalarm.service;
 
 import com.darass.commentalarm.domain.CommentAlarm;
+import com.darass.commentalarm.domain.CommentAlarmCursor;
+import com.darass.commentalarm.dto.CommentAlarmCursorResponses;
+import com.darass.commentalarm.dto.CommentAlarmMessage;
+import com.darass.commentalarm.dto.CommentAlarmReadRequestByCursor;
 import com.darass.commentalarm.dto.CommentAlarmResponse;
+import com.darass.commentalarm.dto.CommentAlarmUnreadCountResponse;
+import com.darass.commentalarm.infrastructure.CommentAlarmSseHub;
+import com.darass.commentalarm.infrastructure.CommentAlarmUnreadCounter;
 import com.darass.commentalarm.repository.CommentAlarmRepository;
+import com.darass.exception.ExceptionWithMessageAndCode;
 import com.darass.user.domain.SocialLoginUser;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Service
 public class CommentAlarmService {
 
+    private static final int MAX_MISSED_ALARM_COUNT = 100;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_UNREAD_COUNT = 99;
+
     private final CommentAlarmRepository commentAlarmRepository;
+    private final CommentAlarmSseHub commentAlarmSseHub;
+    private final CommentAlarmUnreadCounter commentAlarmUnreadCounter;
 
     @Transactional(readOnly = true)
     public List<CommentAlarmResponse> findAllCreatedDateBetween(SocialLoginUser socialLoginUser,
@@ -27,6 +51,67 @@ public class CommentAlarmService {
         return makeCommentAlarmResponses(commentAlarms);
     }
 
+    @Transactional(readOnly = true)
+    public CommentAlarmCursorResponses findAllUsingCursor(SocialLoginUser socialLoginUser,
+        CommentAlarmReadRequestByCursor request) {
+        CommentAlarmCursor cursor = CommentAlarmCursor.decode(request.getCursor());
+        Slice<CommentAlarm> commentAlarms = commentAlarmRepository.findWithSenderAndCommentByReceiverIdBefore(
+            socialLoginUser.getId(), cursor.getCreatedDate(), cursor.getId(),
+            PageRequest.of(0, findPageSize(request.getSize())));
+
+        List<CommentAlarmMessage> commentAlarmMessages = commentAlarms.stream()
+            .map(CommentAlarmMessage::of)
+            .collect(Collectors.toList());
+        return new CommentAlarmCursorResponses(findNextCursor(commentAlarms), commentAlarmMessages);
+    }
+
+    @Transactional(readOnly = true)
+    public CommentAlarmUnreadCountResponse countUnreadAlarms(SocialLoginUser socialLoginUser, Long lastReadAlarmId) {
+        Long receiverId = socialLoginUser.getId();
+        int unreadCount = Optional.ofNullable(lastReadAlarmId)
+            .flatMap(id -> commentAlarmRepository.findByIdAndReceiverId(id, receiverId))
+            .map(lastRead -> commentAlarmRepository.findIdsByReceiverIdAfter(receiverId, lastRead.getCreatedDate(),
+                lastRead.getId(), PageRequest.of(0, MAX_UNREAD_COUNT + 1)).size())
+            .orElseGet(() -> commentAlarmUnreadCounter.findUnreadCount(receiverId));
+        return new CommentAlarmUnreadCountResponse(Math.min(unreadCount, MAX_UNREAD_COUNT),
+            unreadCount > MAX_UNREAD_COUNT);
+    }
+
+    public SseEmitter stream(SocialLoginUser socialLoginUser, Long lastEventId) {
+        return commentAlarmSseHub.toEmitter(subscribe(socialLoginUser, lastEventId));
+    }
+
+    public Flux<ServerSentEvent<String>> subscribe(SocialLoginUser socialLoginUser, Long lastEventId) {
+        Long receiverId = socialLoginUser.getId();
+        return commentAlarmSseHub.subscribe(receiverId, () -> findMissedAlarms(receiverId, lastEventId));
+    }
+
+    private Slice<CommentAlarmMessage> findMissedAlarms(Long receiverId, Long lastEventId) {
+        if (Objects.isNull(lastEventId)) {
+            return new SliceImpl<>(Collections.emptyList());
+        }
+        return commentAlarmRepository.findWithSenderAndCommentByReceiverIdAndIdGreaterThan(receiverId, lastEventId,
+            PageRequest.of(0, MAX_MISSED_ALARM_COUNT)).map(CommentAlarmMessage::of);
+    }
+
+    private int findPageSize(Integer size) {
+        if (Objects.isNull(size)) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw ExceptionWithMessageAndCode.PAGE_NOT_POSITIVE_EXCEPTION.getException();
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private String findNextCursor(Slice<CommentAlarm> commentAlarms) {
+        if (!commentAlarms.hasNext()) {
+            return null;
+        }
+        List<CommentAlarm> content = commentAlarms.getContent();
+        return CommentAlarmCursor.of(content.get(content.size() - 1)).encode();
+    }
+
     private List<CommentAlarmResponse> makeCommentAlarmResponses(List<CommentAlarm> commentAlarms) {
         return commentAlarms.stream().map(CommentAlarmResponse::of).collect(Collectors.toList());
     }
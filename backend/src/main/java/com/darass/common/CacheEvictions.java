@@ -0,0 +1,37 @@
+package com.darass.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class CacheEvictions {
+
+    private CacheEvictions() {
+    }
+
+    // 커밋 전에 다른 요청이 이전 데이터로 캐시를 다시 채울 수 있으므로 트랜잭션이 끝난 뒤 한 번 더 비운다.
+    public static void evictNowAndAfterTransaction(Runnable eviction) {
+        eviction.run();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                eviction.run();
+            }
+        });
+    }
+
+    public static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,6 @@
+package com.darass.common;
+
+public enum SlowConsumerPolicy {
+    TERMINATE,
+    DROP
+}
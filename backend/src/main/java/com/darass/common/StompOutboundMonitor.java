@@ -0,0 +1,143 @@
+package com.darass.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+@Component
+public class StompOutboundMonitor implements ExecutorChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    private final SlowConsumerPolicy slowConsumerPolicy;
+    private final long dropAfterNanos;
+    private final Map<String, TimedWebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final Timer sendLatency;
+    private final Counter slowConsumerDropCount;
+    private final Counter rejectedDropCount;
+
+    public StompOutboundMonitor(MeterRegistry meterRegistry,
+        @Value("${websocket.outbound.slow-consumer-policy:TERMINATE}") SlowConsumerPolicy slowConsumerPolicy,
+        @Value("${websocket.outbound.drop-after-millis:1000}") long dropAfterMillis) {
+        this.slowConsumerPolicy = slowConsumerPolicy;
+        this.dropAfterNanos = TimeUnit.MILLISECONDS.toNanos(dropAfterMillis);
+        Gauge.builder("websocket.outbound.queue.depth", queueDepth, AtomicInteger::get)
+            .register(meterRegistry);
+        this.sendLatency = Timer.builder("websocket.outbound.send.latency")
+            .register(meterRegistry);
+        this.slowConsumerDropCount = Counter.builder("websocket.outbound.dropped")
+            .tag("reason", "slow-consumer")
+            .register(meterRegistry);
+        this.rejectedDropCount = Counter.builder("websocket.outbound.dropped")
+            .tag("reason", "rejected")
+            .register(meterRegistry);
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (isDroppable(message)) {
+            slowConsumerDropCount.increment();
+            return null;
+        }
+        queueDepth.incrementAndGet();
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (Objects.nonNull(ex)) {
+            queueDepth.decrementAndGet();
+            rejectedDropCount.increment();
+        }
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        queueDepth.decrementAndGet();
+        return message;
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                TimedWebSocketSession timedSession = new TimedWebSocketSession(session);
+                sessions.put(session.getId(), timedSession);
+                super.afterConnectionEstablished(timedSession);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    // 구독 메시지만 버리고, 연결이나 heartbeat 같은 프레임은 그대로 보낸다.
+    private boolean isDroppable(Message<?> message) {
+        if (slowConsumerPolicy != SlowConsumerPolicy.DROP
+            || SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return false;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (Objects.isNull(sessionId)) {
+            return false;
+        }
+        TimedWebSocketSession session = sessions.get(sessionId);
+        return Objects.nonNull(session) && session.isSendingLongerThan(dropAfterNanos);
+    }
+
+    private class TimedWebSocketSession extends WebSocketSessionDecorator {
+
+        private final AtomicLong sendStartedNanos = new AtomicLong();
+
+        private TimedWebSocketSession(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            long startedNanos = System.nanoTime();
+            sendStartedNanos.set(startedNanos);
+            try {
+                super.sendMessage(message);
+            } finally {
+                sendStartedNanos.set(0);
+                sendLatency.record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private boolean isSendingLongerThan(long nanos) {
+            long startedNanos = sendStartedNanos.get();
+            return startedNanos != 0 && System.nanoTime() - startedNanos > nanos;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.darass.common;
+
+import static com.darass.commentalarm.domain.CommentAlarmMachine.QUEUE_MAIN;
+import static com.darass.commentalarm.domain.CommentAlarmMachine.QUEUE_MODULE;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+@Component
+public class StompSessionRegistry {
+
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+    private final Map<String, Integer> destinationSubscriptionCounts = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> userSubscriptionCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriptionCount = new AtomicInteger();
+
+    public StompSessionRegistry(MeterRegistry meterRegistry) {
+        Gauge.builder("websocket.sessions.connected", sessionSubscriptions, Map::size)
+            .register(meterRegistry);
+        Gauge.builder("websocket.subscriptions", subscriptionCount, AtomicInteger::get)
+            .register(meterRegistry);
+        Gauge.builder("websocket.alarm.subscribed.users", userSubscriptionCounts, Map::size)
+            .register(meterRegistry);
+    }
+
+    public boolean hasSubscriber(String destination) {
+        return destinationSubscriptionCounts.containsKey(destination);
+    }
+
+    public boolean isAlarmSubscriber(Long userId) {
+        return userSubscriptionCounts.containsKey(userId);
+    }
+
+    public int getConnectedSessionCount() {
+        return sessionSubscriptions.size();
+    }
+
+    public int getSubscriptionCount() {
+        return subscriptionCount.get();
+    }
+
+    @EventListener
+    public void connect(SessionConnectEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (Objects.isNull(sessionId)) {
+            return;
+        }
+        sessionSubscriptions.putIfAbsent(sessionId, new ConcurrentHashMap<>());
+    }
+
+    @EventListener
+    public void subscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        String destination = accessor.getDestination();
+        if (Objects.isNull(sessionId) || Objects.isNull(subscriptionId) || Objects.isNull(destination)) {
+            return;
+        }
+        String previousDestination = sessionSubscriptions
+            .computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+            .put(subscriptionId, destination);
+        if (Objects.nonNull(previousDestination)) {
+            decrease(previousDestination);
+        }
+        increase(destination);
+    }
+
+    @EventListener
+    public void unsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (Objects.isNull(sessionId) || Objects.isNull(subscriptionId)) {
+            return;
+        }
+        Map<String, String> subscriptions = sessionSubscriptions.get(sessionId);
+        if (Objects.isNull(subscriptions)) {
+            return;
+        }
+        String destination = subscriptions.remove(subscriptionId);
+        if (Objects.nonNull(destination)) {
+            decrease(destination);
+        }
+    }
+
+    @EventListener
+    public void disconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (Objects.isNull(subscriptions)) {
+            return;
+        }
+        subscriptions.values().forEach(this::decrease);
+    }
+
+    private void increase(String destination) {
+        destinationSubscriptionCounts.merge(destination, 1, Integer::sum);
+        Long userId = findAlarmUserId(destination);
+        if (Objects.nonNull(userId)) {
+            userSubscriptionCounts.merge(userId, 1, Integer::sum);
+        }
+        subscriptionCount.incrementAndGet();
+    }
+
+    private void decrease(String destination) {
+        destinationSubscriptionCounts.computeIfPresent(destination, (key, count) -> count == 1 ? null : count - 1);
+        Long userId = findAlarmUserId(destination);
+        if (Objects.nonNull(userId)) {
+            userSubscriptionCounts.computeIfPresent(userId, (key, count) -> count == 1 ? null : count - 1);
+        }
+        subscriptionCount.decrementAndGet();
+    }
+
+    private Long findAlarmUserId(String destination) {
+        return Stream.of(QUEUE_MAIN, QUEUE_MODULE)
+            .filter(destination::startsWith)
+            .map(prefix -> destination.substring(prefix.length()))
+            .filter(userId -> !userId.isEmpty() && userId.length() < 19 && userId.chars().allMatch(Character::isDigit))
+            .map(Long::valueOf)
+            .findAny()
+            .orElse(null);
+    }
+}
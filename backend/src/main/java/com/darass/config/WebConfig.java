@@ -1,6 +1,7 @@
 package com.darass.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -15,6 +16,7 @@ public class WebConfig implements WebMvcConfigurer {
                 "https://darass.co.kr", "https://reply-module.darass.co.kr",
                 "https://dev.darass.co.kr", "https://reply-module.dev.darass.co.kr")
             .allowCredentials(true)
-            .allowedMethods("*");
+            .allowedMethods("*")
+            .exposedHeaders(HttpHeaders.ETAG);
     }
 }
@@ -1,17 +1,45 @@
 package com.darass.config;
 
+import com.darass.common.StompOutboundMonitor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Profile({"prod", "develop", "local", "test"})
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompOutboundMonitor stompOutboundMonitor;
+    private final int outboundCorePoolSize;
+    private final int outboundMaxPoolSize;
+    private final int outboundQueueCapacity;
+    private final int sendTimeLimitMillis;
+    private final int sendBufferSizeLimit;
+    private final int messageSizeLimit;
+
+    public WebSocketConfig(StompOutboundMonitor stompOutboundMonitor,
+        @Value("${websocket.outbound.core-pool-size:8}") int outboundCorePoolSize,
+        @Value("${websocket.outbound.max-pool-size:16}") int outboundMaxPoolSize,
+        @Value("${websocket.outbound.queue-capacity:10000}") int outboundQueueCapacity,
+        @Value("${websocket.outbound.send-time-limit-millis:10000}") int sendTimeLimitMillis,
+        @Value("${websocket.outbound.send-buffer-size-limit:524288}") int sendBufferSizeLimit,
+        @Value("${websocket.inbound.message-size-limit:65536}") int messageSizeLimit) {
+        this.stompOutboundMonitor = stompOutboundMonitor;
+        this.outboundCorePoolSize = outboundCorePoolSize;
+        this.outboundMaxPoolSize = outboundMaxPoolSize;
+        this.outboundQueueCapacity = outboundQueueCapacity;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.messageSizeLimit = messageSizeLimit;
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry stompEndpointRegistry) {
         stompEndpointRegistry.addEndpoint("/websocket").setAllowedOriginPatterns("*").withSockJS();
@@ -22,7 +50,24 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
         messageBrokerRegistry.setApplicationDestinationPrefixes("/app");
 
-        messageBrokerRegistry.enableSimpleBroker("/queue");
+        messageBrokerRegistry.enableSimpleBroker("/queue", "/topic");
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration webSocketTransportRegistration) {
+        webSocketTransportRegistration.setSendTimeLimit(sendTimeLimitMillis)
+            .setSendBufferSizeLimit(sendBufferSizeLimit)
+            .setMessageSizeLimit(messageSizeLimit)
+            .addDecoratorFactory(stompOutboundMonitor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration channelRegistration) {
+        channelRegistration.interceptors(stompOutboundMonitor);
+        channelRegistration.taskExecutor()
+            .corePoolSize(outboundCorePoolSize)
+            .maxPoolSize(outboundMaxPoolSize)
+            .queueCapacity(outboundQueueCapacity);
     }
 
 }
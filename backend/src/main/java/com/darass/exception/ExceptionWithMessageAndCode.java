@@ -47,12 +47,14 @@ public enum ExceptionWithMessageAndCode {
 
     // 페이지네이션 관련 : 11xx
     PAGE_NOT_POSITIVE_EXCEPTION(new BadRequestException("페이지의 값은 1 이상이어야 합니다.", 1100)),
+    INVALID_CURSOR(new BadRequestException("유효하지 않은 커서입니다.", 1101)),
 
     // 통계 관련 : 12xx
     NOT_FOUND_PERIODICITY(new NotFoundException("해당하는 주기가 없습니다.", 1200)),
 
     // 제한 관련 : 13xx
-    INVALID_INPUT_LENGTH(new BadRequestException("입력값의 길이기 적절하지 않습니다.", 1300));
+    INVALID_INPUT_LENGTH(new BadRequestException("입력값의 길이기 적절하지 않습니다.", 1300)),
+    TOO_MANY_URLS(new BadRequestException("한 번에 조회할 수 있는 URL의 개수를 초과하였습니다.", 1301));
 
     private final CustomException exception;
 
@@ -0,0 +1,23 @@
+package com.darass.project.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "websocket.relay.enabled", havingValue = "false", matchIfMissing = true)
+@Component
+public class LocalProjectEvictionBroadcaster implements ProjectEvictionBroadcaster {
+
+    private final ProjectCache projectCache;
+
+    @Override
+    public void evict(Long id) {
+        projectCache.evict(id);
+    }
+
+    @Override
+    public void evictByUserId(Long userId) {
+        projectCache.evictByUserId(userId);
+    }
+}
@@ -0,0 +1,98 @@
+package com.darass.project.infrastructure;
+
+import com.darass.common.CacheEvictions;
+import com.darass.exception.ExceptionWithMessageAndCode;
+import com.darass.project.dto.ProjectResponse;
+import com.darass.project.repository.ProjectRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProjectCache {
+
+    private final ProjectRepository projectRepository;
+    private final Cache<String, ProjectResponse> projectsBySecretKey;
+    private final Cache<Long, ProjectResponse> projectsById;
+
+    public ProjectCache(ProjectRepository projectRepository,
+        @Value("${project.cache.maximum-size:10000}") long maximumSize,
+        @Value("${project.cache.expire-after-write-seconds:600}") long expireAfterWriteSeconds) {
+        this.projectRepository = projectRepository;
+        this.projectsBySecretKey = buildCache(maximumSize, expireAfterWriteSeconds);
+        this.projectsById = buildCache(maximumSize, expireAfterWriteSeconds);
+    }
+
+    private static <K> Cache<K, ProjectResponse> buildCache(long maximumSize, long expireAfterWriteSeconds) {
+        return CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWriteSeconds, TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+    }
+
+    public ProjectResponse findBySecretKey(String secretKey) {
+        return findOptionalBySecretKey(secretKey)
+            .orElseThrow(ExceptionWithMessageAndCode.NOT_FOUND_PROJECT::getException);
+    }
+
+    public Optional<ProjectResponse> findOptionalBySecretKey(String secretKey) {
+        ProjectResponse projectResponse = projectsBySecretKey.getIfPresent(secretKey);
+        if (Objects.nonNull(projectResponse)) {
+            return Optional.of(projectResponse);
+        }
+        return projectRepository.findBySecretKey(secretKey)
+            .map(ProjectResponse::from)
+            .map(this::put);
+    }
+
+    public ProjectResponse findById(Long id) {
+        ProjectResponse projectResponse = projectsById.getIfPresent(id);
+        if (Objects.nonNull(projectResponse)) {
+            return projectResponse;
+        }
+        return put(projectRepository.findById(id)
+            .map(ProjectResponse::from)
+            .orElseThrow(ExceptionWithMessageAndCode.NOT_FOUND_PROJECT::getException));
+    }
+
+    private ProjectResponse put(ProjectResponse projectResponse) {
+        projectsBySecretKey.put(projectResponse.getSecretKey(), projectResponse);
+        projectsById.put(projectResponse.getId(), projectResponse);
+        return projectResponse;
+    }
+
+    public void evict(Long id) {
+        CacheEvictions.evictNowAndAfterTransaction(() -> {
+            projectsById.invalidate(id);
+            projectsBySecretKey.asMap().values().removeIf(projectResponse -> projectResponse.getId().equals(id));
+        });
+    }
+
+    public void evictByUserId(Long userId) {
+        CacheEvictions.evictNowAndAfterTransaction(() -> {
+            projectsById.asMap().values().removeIf(projectResponse -> projectResponse.getUserId().equals(userId));
+            projectsBySecretKey.asMap().values().removeIf(projectResponse -> projectResponse.getUserId().equals(userId));
+        });
+    }
+
+    public void evictAll() {
+        CacheEvictions.evictNowAndAfterTransaction(() -> {
+            projectsById.invalidateAll();
+            projectsBySecretKey.invalidateAll();
+        });
+    }
+
+    public CacheStats bySecretKeyStats() {
+        return projectsBySecretKey.stats();
+    }
+
+    public CacheStats byIdStats() {
+        return projectsById.stats();
+    }
+}
@@ -0,0 +1,8 @@
+package com.darass.project.infrastructure;
+
+public interface ProjectEvictionBroadcaster {
+
+    void evict(Long id);
+
+    void evictByUserId(Long userId);
+}
@@ -0,0 +1,67 @@
+package com.darass.project.infrastructure;
+
+import com.darass.common.CacheEvictions;
+import java.nio.charset.StandardCharsets;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@ConditionalOnProperty(name = "websocket.relay.enabled", havingValue = "true")
+@Component
+public class RelayProjectEvictionBroadcaster implements ProjectEvictionBroadcaster {
+
+    private static final String EVICT_BY_HEADER = "evict-by";
+    private static final String EVICT_BY_ID = "id";
+    private static final String EVICT_BY_USER_ID = "user-id";
+
+    private final AmqpTemplate amqpTemplate;
+    private final ProjectCache projectCache;
+    private final String exchange;
+
+    public RelayProjectEvictionBroadcaster(AmqpTemplate amqpTemplate, ProjectCache projectCache,
+        @Value("${websocket.relay.project-exchange:darass.project-eviction}") String exchange) {
+        this.amqpTemplate = amqpTemplate;
+        this.projectCache = projectCache;
+        this.exchange = exchange;
+    }
+
+    @Override
+    public void evict(Long id) {
+        projectCache.evict(id);
+        CacheEvictions.runAfterCommit(() -> send(EVICT_BY_ID, id));
+    }
+
+    @Override
+    public void evictByUserId(Long userId) {
+        projectCache.evictByUserId(userId);
+        CacheEvictions.runAfterCommit(() -> send(EVICT_BY_USER_ID, userId));
+    }
+
+    @RabbitListener(bindings = @QueueBinding(value = @Queue, exchange = @Exchange(
+        name = "${websocket.relay.project-exchange:darass.project-eviction}", type = ExchangeTypes.FANOUT)))
+    public void receive(Message message) {
+        Long id = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (EVICT_BY_USER_ID.equals(message.getMessageProperties().getHeader(EVICT_BY_HEADER))) {
+            projectCache.evictByUserId(id);
+            return;
+        }
+        projectCache.evict(id);
+    }
+
+    private void send(String evictBy, Long id) {
+        Message message = MessageBuilder.withBody(String.valueOf(id).getBytes(StandardCharsets.UTF_8))
+            .setContentType(MessageProperties.CONTENT_TYPE_TEXT_PLAIN)
+            .setHeader(EVICT_BY_HEADER, evictBy)
+            .build();
+        amqpTemplate.send(exchange, "", message);
+    }
+}
@@ -1,10 +1,14 @@
 package com.darass.project.service;
 
+import com.darass.comment.infrastructure.CommentThreadCache;
+import com.darass.comment.service.CommentThreadVersionService;
 import com.darass.exception.ExceptionWithMessageAndCode;
 import com.darass.project.domain.Project;
 import com.darass.project.dto.ProjectCreateRequest;
 import com.darass.project.dto.ProjectResponse;
 import com.darass.project.dto.ProjectUpdateRequest;
+import com.darass.project.infrastructure.ProjectCache;
+import com.darass.project.infrastructure.ProjectEvictionBroadcaster;
 import com.darass.project.repository.ProjectRepository;
 import com.darass.user.domain.User;
 import java.util.List;
@@ -22,6 +26,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final ProjectCache projectCache;
+    private final ProjectEvictionBroadcaster projectEvictionBroadcaster;
+    private final CommentThreadCache commentThreadCache;
+    private final CommentThreadVersionService commentThreadVersionService;
 
     @Transactional(readOnly = true)
     public List<ProjectResponse> findByUserId(Long id) {
@@ -41,10 +49,7 @@ public class ProjectService {
 
     @Transactional(readOnly = true)
     public ProjectResponse findUserIdBySecretKey(String secretKey) {
-        Optional<Project> expectedProject = projectRepository.findBySecretKey(secretKey);
-        Project project = expectedProject.orElseThrow(ExceptionWithMessageAndCode.NOT_FOUND_PROJECT::getException);
-
-        return ProjectResponse.from(project.getUser().getId());
+        return ProjectResponse.from(projectCache.findBySecretKey(secretKey).getUserId());
     }
 
     public ProjectResponse save(ProjectCreateRequest projectCreateRequest, User user) {
@@ -68,10 +73,12 @@ public class ProjectService {
     }
 
     public void deleteByIdAndUserId(Long id, Long userId) {
-        if (!projectRepository.existsByIdAndUserId(id, userId)) {
-            throw ExceptionWithMessageAndCode.NOT_FOUND_PROJECT.getException();
-        }
-        projectRepository.deleteByIdAndUserId(id, userId);
+        Project project = projectRepository.findByIdAndUserId(id, userId)
+            .orElseThrow(ExceptionWithMessageAndCode.NOT_FOUND_PROJECT::getException);
+        projectEvictionBroadcaster.evict(id);
+        commentThreadCache.evictByProjectKey(project.getSecretKey());
+        commentThreadVersionService.deleteByProjectId(id);
+        projectRepository.delete(project);
     }
 
     public ProjectResponse updateById(Long projectId, ProjectUpdateRequest projectUpdateRequest) {
@@ -79,6 +86,7 @@ public class ProjectService {
             .orElseThrow(ExceptionWithMessageAndCode.NOT_FOUND_PROJECT::getException);
 
         project.update(projectUpdateRequest.getName(), projectUpdateRequest.getDescription());
+        projectEvictionBroadcaster.evict(projectId);
 
         return ProjectResponse.from(project);
     }
@@ -39,9 +39,6 @@ public abstract class User extends BaseTimeEntity {
     @Column(name = "user_type", insertable = false, updatable = false)
     private String userType;
 
-    @Column
-    private Boolean hasRecentAlarm = false;
-
     public User(Long id, String nickName, String profileImageUrl) {
         this(id, nickName, profileImageUrl, null);
     }
@@ -67,7 +64,7 @@ public abstract class User extends BaseTimeEntity {
     public abstract boolean isAdminUser(Long id);
 
     public boolean isSameUser(User user) {
-        return this.id.equals(user.id);
+        return this.id.equals(user.getId());
     }
 
     public boolean isSameUser(Long id) {
@@ -88,8 +85,4 @@ public abstract class User extends BaseTimeEntity {
         this.profileImageUrl = profileImageUrl;
     }
 
-    public void changeHasRecentAlarm(boolean hasRecentAlarm) {
-        this.hasRecentAlarm = hasRecentAlarm;
-    }
-
 }
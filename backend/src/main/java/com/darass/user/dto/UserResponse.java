@@ -1,6 +1,8 @@
 package com.darass.user.dto;
 
 import com.darass.user.domain.User;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
 import java.time.LocalDateTime;
@@ -21,6 +23,7 @@ public class UserResponse {
 
     private String profileImageUrl;
 
+    @JsonInclude(Include.NON_NULL)
     private Boolean hasRecentAlarm;
 
     @JsonDeserialize(using = LocalDateTimeDeserializer.class)
@@ -31,6 +34,10 @@ public class UserResponse {
 
     public static UserResponse of(User user) {
         return new UserResponse(user.getId(), user.getNickName(), user.getUserType(), user.getProfileImageUrl(),
-            user.getHasRecentAlarm(), user.getCreatedDate(), user.getModifiedDate());
+            null, user.getCreatedDate(), user.getModifiedDate());
+    }
+
+    public UserResponse withHasRecentAlarm(boolean hasRecentAlarm) {
+        return new UserResponse(id, nickName, type, profileImageUrl, hasRecentAlarm, createdDate, modifiedDate);
     }
 }
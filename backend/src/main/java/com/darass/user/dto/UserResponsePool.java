@@ -0,0 +1,23 @@
+package com.darass.user.dto;
+
+import com.darass.user.domain.User;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class UserResponsePool {
+
+    private final Map<Long, UserResponse> userResponses = new LinkedHashMap<>();
+
+    public UserResponse get(User user) {
+        return userResponses.computeIfAbsent(user.getId(), id -> UserResponse.of(user));
+    }
+
+    public UserResponse get(UserResponse userResponse) {
+        return userResponses.computeIfAbsent(userResponse.getId(), id -> userResponse);
+    }
+
+    public Map<Long, UserResponse> toMap() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(userResponses));
+    }
+}
@@ -0,0 +1,18 @@
+package com.darass.user.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "websocket.relay.enabled", havingValue = "false", matchIfMissing = true)
+@Component
+public class LocalUserEvictionBroadcaster implements UserEvictionBroadcaster {
+
+    private final UserCache userCache;
+
+    @Override
+    public void evict(Long id) {
+        userCache.evict(id);
+    }
+}
@@ -0,0 +1,51 @@
+package com.darass.user.infrastructure;
+
+import com.darass.common.CacheEvictions;
+import java.nio.charset.StandardCharsets;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@ConditionalOnProperty(name = "websocket.relay.enabled", havingValue = "true")
+@Component
+public class RelayUserEvictionBroadcaster implements UserEvictionBroadcaster {
+
+    private final AmqpTemplate amqpTemplate;
+    private final UserCache userCache;
+    private final String exchange;
+
+    public RelayUserEvictionBroadcaster(AmqpTemplate amqpTemplate, UserCache userCache,
+        @Value("${websocket.relay.user-exchange:darass.user-eviction}") String exchange) {
+        this.amqpTemplate = amqpTemplate;
+        this.userCache = userCache;
+        this.exchange = exchange;
+    }
+
+    @Override
+    public void evict(Long id) {
+        userCache.evict(id);
+        CacheEvictions.runAfterCommit(() -> send(id));
+    }
+
+    @RabbitListener(bindings = @QueueBinding(value = @Queue, exchange = @Exchange(
+        name = "${websocket.relay.user-exchange:darass.user-eviction}", type = ExchangeTypes.FANOUT)))
+    public void receive(Message message) {
+        userCache.evict(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+
+    private void send(Long id) {
+        Message message = MessageBuilder.withBody(String.valueOf(id).getBytes(StandardCharsets.UTF_8))
+            .setContentType(MessageProperties.CONTENT_TYPE_TEXT_PLAIN)
+            .build();
+        amqpTemplate.send(exchange, "", message);
+    }
+}
@@ -0,0 +1,55 @@
+package com.darass.user.infrastructure;
+
+import com.darass.common.CacheEvictions;
+import com.darass.exception.ExceptionWithMessageAndCode;
+import com.darass.user.dto.UserResponse;
+import com.darass.user.repository.UserRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserResponse> users;
+
+    public UserCache(UserRepository userRepository,
+        @Value("${user.cache.maximum-size:10000}") long maximumSize,
+        @Value("${user.cache.expire-after-write-seconds:600}") long expireAfterWriteSeconds) {
+        this.userRepository = userRepository;
+        this.users = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWriteSeconds, TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+    }
+
+    public UserResponse findById(Long id) {
+        UserResponse userResponse = users.getIfPresent(id);
+        if (Objects.nonNull(userResponse)) {
+            return userResponse;
+        }
+        userResponse = userRepository.findById(id)
+            .map(UserResponse::of)
+            .orElseThrow(ExceptionWithMessageAndCode.NOT_FOUND_USER::getException);
+        users.put(id, userResponse);
+        return userResponse;
+    }
+
+    public void evict(Long id) {
+        CacheEvictions.evictNowAndAfterTransaction(() -> users.invalidate(id));
+    }
+
+    public void evictAll() {
+        CacheEvictions.evictNowAndAfterTransaction(users::invalidateAll);
+    }
+
+    public CacheStats stats() {
+        return users.stats();
+    }
+}
@@ -0,0 +1,6 @@
+package com.darass.user.infrastructure;
+
+public interface UserEvictionBroadcaster {
+
+    void evict(Long id);
+}
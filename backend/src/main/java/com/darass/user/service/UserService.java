@@ -1,6 +1,12 @@
 package com.darass.user.service;
 
+import com.darass.auth.infrastructure.PrincipalEvictionBroadcaster;
+import com.darass.comment.infrastructure.CommentThreadCache;
+import com.darass.comment.repository.CommentRepository;
+import com.darass.comment.service.CommentThreadVersionService;
+import com.darass.commentalarm.infrastructure.CommentAlarmUnreadCounter;
 import com.darass.exception.ExceptionWithMessageAndCode;
+import com.darass.project.infrastructure.ProjectEvictionBroadcaster;
 import com.darass.user.domain.SocialLoginUser;
 import com.darass.user.domain.User;
 import com.darass.user.dto.PasswordCheckRequest;
@@ -8,9 +14,14 @@ import com.darass.user.dto.PasswordCheckResponse;
 import com.darass.user.dto.UserResponse;
 import com.darass.user.dto.UserUpdateRequest;
 import com.darass.user.infrastructure.S3Service;
+import com.darass.user.infrastructure.UserCache;
+import com.darass.user.infrastructure.UserEvictionBroadcaster;
 import com.darass.user.repository.UserRepository;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,13 +34,19 @@ public class UserService {
 
     private static final int MAX_FILE_SIZE = 5000000; // 5MB
     private final UserRepository userRepository;
+    private final CommentRepository commentRepository;
     private final S3Service s3Service;
+    private final UserCache userCache;
+    private final UserEvictionBroadcaster userEvictionBroadcaster;
+    private final ProjectEvictionBroadcaster projectEvictionBroadcaster;
+    private final CommentThreadCache commentThreadCache;
+    private final CommentThreadVersionService commentThreadVersionService;
+    private final CommentAlarmUnreadCounter commentAlarmUnreadCounter;
+    private final PrincipalEvictionBroadcaster principalEvictionBroadcaster;
 
     @Transactional(readOnly = true)
     public UserResponse findById(Long id) {
-        Optional<User> possibleUser = userRepository.findById(id);
-        User user = possibleUser.orElseThrow(ExceptionWithMessageAndCode.NOT_FOUND_USER::getException);
-        return UserResponse.of(user);
+        return userCache.findById(id).withHasRecentAlarm(commentAlarmUnreadCounter.hasUnread(id));
     }
 
     public UserResponse update(Long id, UserUpdateRequest userUpdateRequest) {
@@ -41,15 +58,34 @@ public class UserService {
         if (!Objects.isNull(profileImageFile) && profileImageFile.getSize() >= MAX_FILE_SIZE) {
             throw ExceptionWithMessageAndCode.OVER_MAX_FILE_SIZE.getException();
         }
+        String previousNickName = user.getNickName();
+        String previousProfileImageUrl = user.getProfileImageUrl();
         user.changeNickNameOrProfileImageIfExists(s3Service, nickName, profileImageFile);
-        if (!Objects.isNull(userUpdateRequest.getHasRecentAlarm())) {
-            user.changeHasRecentAlarm(userUpdateRequest.getHasRecentAlarm());
+        userEvictionBroadcaster.evict(id);
+        principalEvictionBroadcaster.evictByUserId(id);
+        if (!Objects.equals(previousNickName, user.getNickName())
+            || !Objects.equals(previousProfileImageUrl, user.getProfileImageUrl())) {
+            commentThreadVersionService.increaseVersionsByUserId(id);
+            commentThreadCache.evictAll();
+        }
+        if (Boolean.FALSE.equals(userUpdateRequest.getHasRecentAlarm())) {
+            commentAlarmUnreadCounter.markRead(id);
         }
-        return UserResponse.of(user);
+        return UserResponse.of(user).withHasRecentAlarm(commentAlarmUnreadCounter.hasUnread(id));
     }
 
     public void deleteById(Long id) {
+        Map<Long, Long> deletedReplyCounts = commentRepository.findParentIdsOfSubCommentsByUserId(id).stream()
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        commentThreadVersionService.increaseVersionsByUserId(id);
+        commentRepository.decreaseLikeCountsByLikedUserId(id);
         userRepository.deleteById(id);
+        deletedReplyCounts.forEach((parentId, count) ->
+            commentRepository.decreaseReplyCount(parentId, count.intValue()));
+        userEvictionBroadcaster.evict(id);
+        principalEvictionBroadcaster.evictByUserId(id);
+        projectEvictionBroadcaster.evictByUserId(id);
+        commentThreadCache.evictAll();
     }
 
     @Transactional(readOnly = true)
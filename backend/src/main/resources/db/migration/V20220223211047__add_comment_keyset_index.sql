@@ -0,0 +1,2 @@
+create index comment_idx_project_url_parent
+    on comment (project_id, url, parent_id, id);
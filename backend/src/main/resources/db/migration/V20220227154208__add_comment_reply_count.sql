@@ -0,0 +1,7 @@
+alter table comment
+    add reply_count int not null default 0;
+
+update comment c
+    join (select parent_id, count(*) as reply_count from comment where parent_id is not null group by parent_id) s
+    on s.parent_id = c.id
+set c.reply_count = s.reply_count;
@@ -0,0 +1,5 @@
+alter table comment_alarm_outbox
+    add receiver_id bigint;
+
+alter table comment_alarm_outbox
+    add payload varchar(2000);
@@ -0,0 +1,2 @@
+create index comment_alarm_idx_receiver_created_date
+    on comment_alarm (receiver_id, created_date, id);
@@ -1,5 +1,9 @@
 package com.darass;
 
+import com.darass.auth.infrastructure.VerifiedPrincipalCache;
+import com.darass.comment.infrastructure.CommentThreadCache;
+import com.darass.project.infrastructure.ProjectCache;
+import com.darass.user.infrastructure.UserCache;
 import com.google.common.base.CaseFormat;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,6 +11,7 @@ import javax.persistence.Entity;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +21,18 @@ public class DatabaseCleaner implements InitializingBean {
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Autowired
+    private CommentThreadCache commentThreadCache;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private VerifiedPrincipalCache verifiedPrincipalCache;
+
     private List<String> tableNames;
 
     @Override
@@ -37,6 +54,11 @@ public class DatabaseCleaner implements InitializingBean {
             entityManager.createNativeQuery("TRUNCATE TABLE " + tableName).executeUpdate();
         }
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+
+        commentThreadCache.evictAll();
+        projectCache.evictAll();
+        userCache.evictAll();
+        verifiedPrincipalCache.evictAll();
     }
 
 }
@@ -0,0 +1,28 @@
+package com.darass;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+@Component
+public class QueryCounter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public long count(Runnable runnable) {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        runnable.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
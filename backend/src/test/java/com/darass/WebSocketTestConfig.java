@@ -20,7 +20,7 @@ public class WebSocketTestConfig implements WebSocketMessageBrokerConfigurer {
 
         messageBrokerRegistry.setApplicationDestinationPrefixes("/app");
 
-        messageBrokerRegistry.enableSimpleBroker("/queue");
+        messageBrokerRegistry.enableSimpleBroker("/queue", "/topic");
     }
 
 }
\ No newline at end of file
@@ -122,4 +122,15 @@ class JwtTokenProviderTest extends SpringContainerTest {
             () -> jwtTokenProvider.getAccessTokenPayload("IncorrectToken"));
     }
 
+    @DisplayName("getStreamTokenSubject 메서드는 스트림 토큰의 유저 id를 반환하고, 액세스 토큰은 받지 않는다.")
+    @Test
+    void getStreamTokenSubject() {
+        String streamToken = jwtTokenProvider.createStreamToken(SOCIAL_LOGIN_USER);
+        String accessToken = jwtTokenProvider.createAccessToken(SOCIAL_LOGIN_USER2);
+
+        assertThat(jwtTokenProvider.getStreamTokenSubject(streamToken)).isEqualTo(SOCIAL_LOGIN_USER.getId());
+        Assertions.assertThrows(ExceptionWithMessageAndCode.INVALID_ACCESS_TOKEN.getException().getClass(),
+            () -> jwtTokenProvider.getStreamTokenSubject(accessToken));
+    }
+
 }
\ No newline at end of file
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.darass.MockSpringContainerTest;
 import com.darass.auth.domain.KaKaoOAuthProvider;
@@ -20,7 +22,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @DisplayName("OAuthService 클래스")
 class OAuthServiceTest extends MockSpringContainerTest {
@@ -36,10 +40,16 @@ class OAuthServiceTest extends MockSpringContainerTest {
     @Autowired
     private EntityManager entityManager;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
     private SocialLoginUser socialLoginUser;
 
     @BeforeEach
     void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
         socialLoginUser = SocialLoginUser
             .builder()
             .nickName("우기")
@@ -122,6 +132,48 @@ class OAuthServiceTest extends MockSpringContainerTest {
                 .isInstanceOf(ExceptionWithMessageAndCode.INVALID_JWT_NOT_FOUND_USER_TOKEN.getException().getClass());
     }
 
+    @DisplayName("findSocialLoginUserByAccessToken 메서드는 한 번 검증한 accessToken의 유저를 다시 조회하지 않는다.")
+    @Test
+    void findSocialLoginUserByAccessToken_cache() {
+        TokenRequest tokenRequest = new TokenRequest(KaKaoOAuthProvider.NAME, AUTHORIZATION_CODE);
+        TokenResponse tokenResponse = oAuthService.oauthLogin(tokenRequest);
+
+        oAuthService.findSocialLoginUserByAccessToken(tokenResponse.getAccessToken());
+        SocialLoginUser result = oAuthService.findSocialLoginUserByAccessToken(tokenResponse.getAccessToken());
+
+        assertThat(result.getId()).isEqualTo(socialLoginUser.getId());
+        assertThat(result.getNickName()).isEqualTo(socialLoginUser.getNickName());
+        verify(socialLoginUserRepository, times(1)).findById(any());
+    }
+
+    @DisplayName("findManagedSocialLoginUserByAccessToken 메서드로 찾은 유저는 캐시에 담을 때의 값이 아니라 DB의 최신 값을 읽는다.")
+    @Test
+    void findManagedSocialLoginUserByAccessToken_cache_latest() {
+        TokenRequest tokenRequest = new TokenRequest(KaKaoOAuthProvider.NAME, AUTHORIZATION_CODE);
+        TokenResponse tokenResponse = oAuthService.oauthLogin(tokenRequest);
+        oAuthService.findSocialLoginUserByAccessToken(tokenResponse.getAccessToken());
+        transactionTemplate.executeWithoutResult(status -> socialLoginUserRepository.findById(socialLoginUser.getId())
+            .ifPresent(user -> user.changeNickName("새닉네임")));
+
+        String nickName = transactionTemplate.execute(status ->
+            oAuthService.findManagedSocialLoginUserByAccessToken(tokenResponse.getAccessToken()).getNickName());
+
+        assertThat(nickName).isEqualTo("새닉네임");
+    }
+
+    @DisplayName("로그아웃을 하면 캐시된 유저를 지워, 다음 요청에서 accessToken을 다시 검증한다.")
+    @Test
+    void log_out_evict_cache() {
+        TokenRequest tokenRequest = new TokenRequest(KaKaoOAuthProvider.NAME, AUTHORIZATION_CODE);
+        TokenResponse tokenResponse = oAuthService.oauthLogin(tokenRequest);
+        SocialLoginUser result = oAuthService.findSocialLoginUserByAccessToken(tokenResponse.getAccessToken());
+
+        oAuthService.logOut(result);
+        oAuthService.findSocialLoginUserByAccessToken(tokenResponse.getAccessToken());
+
+        verify(socialLoginUserRepository, times(2)).findById(any());
+    }
+
     @DisplayName("유효한 refreshToken이 주어지고, DB의 accessToken이 유효하지 않다면 accessToken을 발급해준다.")
     @Transactional
     @Test
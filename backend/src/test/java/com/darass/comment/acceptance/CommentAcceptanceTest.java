@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.delete;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
@@ -18,12 +19,14 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.response
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.darass.MockSpringContainerTest;
 import com.darass.auth.infrastructure.JwtTokenProvider;
 import com.darass.comment.dto.CommentCreateRequest;
+import com.darass.comment.dto.CommentCursorResponses;
 import com.darass.comment.dto.CommentReadSecretCommentRequest;
 import com.darass.comment.dto.CommentResponse;
 import com.darass.comment.dto.CommentResponses;
@@ -41,6 +44,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.web.servlet.ResultActions;
@@ -110,7 +114,7 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
 
     @BeforeEach
     void setUp() {
-        doNothing().when(commentAlarmMachine).sendMessage(any());
+        doNothing().when(commentAlarmMachine).sendPayload(any(), any());
 
         setUpUser();
         setUpProject();
@@ -152,7 +156,6 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("user.type").type(JsonFieldType.STRING).description("유저 유형"),
                     fieldWithPath("user.profileImageUrl").type(JsonFieldType.STRING)
                         .description("유저 프로필 이미지"),
-                    fieldWithPath("user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
                     fieldWithPath("subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보")
                 ))
         );
@@ -193,7 +196,6 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                         .description("유저 수정 시점"),
                     fieldWithPath("user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("user.type").type(JsonFieldType.STRING).description("유저 유형"),
-                    fieldWithPath("user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
                     fieldWithPath("subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보")
                 ))
         );
@@ -333,7 +335,6 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("user.type").type(JsonFieldType.STRING).description("유저 유형"),
                     fieldWithPath("user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
                     fieldWithPath("subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보")
                 ))
         );
@@ -402,7 +403,8 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].url").type(JsonFieldType.STRING).description("댓글이 있는 url"),
                     fieldWithPath("comments.[].secret").type(JsonFieldType.BOOLEAN).description("댓글의 공개/비공개 여부"),
                     fieldWithPath("comments.[].readable").type(JsonFieldType.BOOLEAN).description("댓글 조회 가능 여부"),
-                    fieldWithPath("comments.[].likingUsers[*]").type(JsonFieldType.ARRAY).description("좋아요 누른 유저 정보"),
+                    fieldWithPath("comments.[].likeCount").type(JsonFieldType.NUMBER).description("댓글 좋아요 수"),
+                    fieldWithPath("comments.[].likedByMe").type(JsonFieldType.BOOLEAN).description("조회한 유저가 댓글에 좋아요를 눌렀는지 여부"),
                     fieldWithPath("comments.[].user").type(JsonFieldType.OBJECT).description("댓글 작성 유저 정보"),
                     fieldWithPath("comments.[].user.createdDate").type(JsonFieldType.STRING).description("유저 생성 시점"),
                     fieldWithPath("comments.[].user.modifiedDate").type(JsonFieldType.STRING).description("유저 수정 시점"),
@@ -410,7 +412,7 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("comments.[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
                     fieldWithPath("comments.[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("comments.[].user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
+                    fieldWithPath("comments.[].subCommentCount").type(JsonFieldType.NUMBER).description("대댓글의 총 개수"),
                     fieldWithPath("comments.[].subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보")
                 )
             ));
@@ -453,7 +455,8 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].url").type(JsonFieldType.STRING).description("댓글이 있는 url"),
                     fieldWithPath("comments.[].secret").type(JsonFieldType.BOOLEAN).description("댓글의 공개/비공개 여부"),
                     fieldWithPath("comments.[].readable").type(JsonFieldType.BOOLEAN).description("댓글 조회 가능 여부"),
-                    fieldWithPath("comments.[].likingUsers[*]").type(JsonFieldType.ARRAY).description("좋아요 누른 유저 정보"),
+                    fieldWithPath("comments.[].likeCount").type(JsonFieldType.NUMBER).description("댓글 좋아요 수"),
+                    fieldWithPath("comments.[].likedByMe").type(JsonFieldType.BOOLEAN).description("조회한 유저가 댓글에 좋아요를 눌렀는지 여부"),
                     fieldWithPath("comments.[].user").type(JsonFieldType.OBJECT).description("댓글 작성 유저 정보"),
                     fieldWithPath("comments.[].user.createdDate").type(JsonFieldType.STRING).description("유저 생성 시점"),
                     fieldWithPath("comments.[].user.modifiedDate").type(JsonFieldType.STRING).description("유저 수정 시점"),
@@ -461,7 +464,7 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("comments.[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
                     fieldWithPath("comments.[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("comments.[].user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
+                    fieldWithPath("comments.[].subCommentCount").type(JsonFieldType.NUMBER).description("대댓글의 총 개수"),
                     fieldWithPath("comments.[].subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보")
                 )
             ));
@@ -504,7 +507,8 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].url").type(JsonFieldType.STRING).description("댓글이 있는 url"),
                     fieldWithPath("comments.[].secret").type(JsonFieldType.BOOLEAN).description("댓글의 공개/비공개 여부"),
                     fieldWithPath("comments.[].readable").type(JsonFieldType.BOOLEAN).description("댓글 조회 가능 여부"),
-                    fieldWithPath("comments.[].likingUsers[*]").type(JsonFieldType.ARRAY).description("좋아요 누른 유저 정보"),
+                    fieldWithPath("comments.[].likeCount").type(JsonFieldType.NUMBER).description("댓글 좋아요 수"),
+                    fieldWithPath("comments.[].likedByMe").type(JsonFieldType.BOOLEAN).description("조회한 유저가 댓글에 좋아요를 눌렀는지 여부"),
                     fieldWithPath("comments.[].user").type(JsonFieldType.OBJECT).description("댓글 작성 유저 정보"),
                     fieldWithPath("comments.[].user.createdDate").type(JsonFieldType.STRING).description("유저 생성 시점"),
                     fieldWithPath("comments.[].user.modifiedDate").type(JsonFieldType.STRING).description("유저 수정 시점"),
@@ -512,12 +516,79 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("comments.[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
                     fieldWithPath("comments.[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("comments.[].user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
+                    fieldWithPath("comments.[].subCommentCount").type(JsonFieldType.NUMBER).description("대댓글의 총 개수"),
                     fieldWithPath("comments.[].subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보")
                 )
             ));
     }
 
+    @DisplayName("댓글이 변경되지 않았다면 ETag로 재검증한 조회에 304를 응답한다.")
+    @Test
+    void read_not_modified() throws Exception {
+        비로그인_댓글_등록됨("content1", "url");
+        String eTag = mockMvc.perform(get("/api/v1/comments")
+            .param("sortOption", "LATEST")
+            .param("url", "url")
+            .param("projectKey", secretKey))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/comments")
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .param("sortOption", "LATEST")
+            .param("url", "url")
+            .param("projectKey", secretKey))
+            .andExpect(status().isNotModified())
+            .andDo(document("api/v1/comments/get/not-modified",
+                requestHeaders(
+                    headerWithName(HttpHeaders.IF_NONE_MATCH).description("이전 응답의 ETag")
+                ),
+                responseHeaders(
+                    headerWithName(HttpHeaders.ETAG).description("댓글 스레드의 현재 버전")
+                )
+            ));
+
+        비로그인_댓글_등록됨("content2", "url");
+
+        mockMvc.perform(get("/api/v1/comments")
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .param("sortOption", "LATEST")
+            .param("url", "url")
+            .param("projectKey", secretKey))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalComment").value(2));
+    }
+
+    @DisplayName("여러 URL의 댓글 수를 한 번에 조회한다.")
+    @Test
+    void countByUrls() throws Exception {
+        CommentResponse comment = 소셜_로그인_댓글_등록됨_Response_반환("content1", "url");
+        소셜_로그인_대댓글_등록됨_Response_반환("content2", "url", comment.getId());
+        소셜_로그인_댓글_등록됨("content3", "url2");
+
+        mockMvc.perform(get("/api/v1/comments/count")
+            .param("projectKey", secretKey)
+            .param("urls", "url", "url2", "url3"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].count").value(2))
+            .andExpect(jsonPath("$[0].replyCount").value(1))
+            .andExpect(jsonPath("$[1].count").value(1))
+            .andExpect(jsonPath("$[2].count").value(0))
+            .andDo(document("api/v1/comments/count/get/success",
+                requestParameters(
+                    parameterWithName("projectKey").description("프로젝트 시크릿 키"),
+                    parameterWithName("urls").description("댓글 수를 조회할 url 목록 (최대 100개)")
+                ),
+                responseFields(
+                    fieldWithPath("[].url").type(JsonFieldType.STRING).description("url"),
+                    fieldWithPath("[].count").type(JsonFieldType.NUMBER).description("댓글과 대댓글의 총 개수"),
+                    fieldWithPath("[].rootCount").type(JsonFieldType.NUMBER).description("댓글의 개수"),
+                    fieldWithPath("[].replyCount").type(JsonFieldType.NUMBER).description("대댓글의 개수")
+                )
+            ));
+    }
+
     @DisplayName("비로그인 유저가 특정 URL의 댓글과 그 댓글의 비밀 대댓글이 달린 상태를 조회한다.")
     @Test
     void readIncludingSubComment_guest_user() throws Exception {
@@ -546,7 +617,8 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].url").type(JsonFieldType.STRING).description("댓글이 있는 url"),
                     fieldWithPath("comments.[].secret").type(JsonFieldType.BOOLEAN).description("댓글 공개/비공개 여부"),
                     fieldWithPath("comments.[].readable").type(JsonFieldType.BOOLEAN).description("댓글 조회 가능 여부"),
-                    fieldWithPath("comments.[].likingUsers[*]").type(JsonFieldType.ARRAY).description("좋아요 누른 유저 정보"),
+                    fieldWithPath("comments.[].likeCount").type(JsonFieldType.NUMBER).description("댓글 좋아요 수"),
+                    fieldWithPath("comments.[].likedByMe").type(JsonFieldType.BOOLEAN).description("조회한 유저가 댓글에 좋아요를 눌렀는지 여부"),
                     fieldWithPath("comments.[].user").type(JsonFieldType.OBJECT).description("댓글 작성 유저 정보"),
                     fieldWithPath("comments.[].user.createdDate").type(JsonFieldType.STRING).description("유저 생성 시점"),
                     fieldWithPath("comments.[].user.modifiedDate").type(JsonFieldType.STRING).description("유저 수정 시점"),
@@ -554,7 +626,7 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("comments.[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
                     fieldWithPath("comments.[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("comments.[].user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
+                    fieldWithPath("comments.[].subCommentCount").type(JsonFieldType.NUMBER).description("대댓글의 총 개수"),
                     fieldWithPath("comments.[].subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보"),
                     fieldWithPath("comments.[].subComments[].createdDate").type(JsonFieldType.STRING).description("대댓글 생성 시점"),
                     fieldWithPath("comments.[].subComments[].modifiedDate").type(JsonFieldType.STRING).description("대댓글 수정 시점"),
@@ -563,15 +635,15 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].subComments[].url").type(JsonFieldType.STRING).description("대댓글이 있는 url"),
                     fieldWithPath("comments.[].subComments[].secret").type(JsonFieldType.BOOLEAN).description("대댓글 공개/비공개 여부"),
                     fieldWithPath("comments.[].subComments[].readable").type(JsonFieldType.BOOLEAN).description("대댓글 조회 가능 여부"),
-                    fieldWithPath("comments.[].subComments[].likingUsers[*]").type(JsonFieldType.ARRAY).description("좋아요 누른 유저 정보"),
+                    fieldWithPath("comments.[].subComments[].likeCount").type(JsonFieldType.NUMBER).description("대댓글 좋아요 수"),
+                    fieldWithPath("comments.[].subComments[].likedByMe").type(JsonFieldType.BOOLEAN).description("조회한 유저가 대댓글에 좋아요를 눌렀는지 여부"),
                     fieldWithPath("comments.[].subComments[].user").type(JsonFieldType.OBJECT).description("대댓글 작성 유저 정보"),
                     fieldWithPath("comments.[].subComments[].user.createdDate").type(JsonFieldType.STRING).description("유저 생성 시점"),
                     fieldWithPath("comments.[].subComments[].user.modifiedDate").type(JsonFieldType.STRING).description("유저 수정 시점"),
                     fieldWithPath("comments.[].subComments[].user.id").type(JsonFieldType.NUMBER).description("유저 id"),
                     fieldWithPath("comments.[].subComments[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("comments.[].subComments[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
-                    fieldWithPath("comments.[].subComments[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("comments.[].subComments[].user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"))
+                    fieldWithPath("comments.[].subComments[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"))
             ));
     }
 
@@ -604,7 +676,8 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].url").type(JsonFieldType.STRING).description("댓글이 있는 url"),
                     fieldWithPath("comments.[].secret").type(JsonFieldType.BOOLEAN).description("댓글 공개/비공개 여부"),
                     fieldWithPath("comments.[].readable").type(JsonFieldType.BOOLEAN).description("댓글 조회 가능 여부"),
-                    fieldWithPath("comments.[].likingUsers[*]").type(JsonFieldType.ARRAY).description("좋아요 누른 유저 정보"),
+                    fieldWithPath("comments.[].likeCount").type(JsonFieldType.NUMBER).description("댓글 좋아요 수"),
+                    fieldWithPath("comments.[].likedByMe").type(JsonFieldType.BOOLEAN).description("조회한 유저가 댓글에 좋아요를 눌렀는지 여부"),
                     fieldWithPath("comments.[].user").type(JsonFieldType.OBJECT).description("댓글 작성 유저 정보"),
                     fieldWithPath("comments.[].user.createdDate").type(JsonFieldType.STRING).description("유저 생성 시점"),
                     fieldWithPath("comments.[].user.modifiedDate").type(JsonFieldType.STRING).description("유저 수정 시점"),
@@ -612,7 +685,7 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("comments.[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
                     fieldWithPath("comments.[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("comments.[].user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
+                    fieldWithPath("comments.[].subCommentCount").type(JsonFieldType.NUMBER).description("대댓글의 총 개수"),
                     fieldWithPath("comments.[].subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보"),
                     fieldWithPath("comments.[].subComments[].createdDate").type(JsonFieldType.STRING).description("대댓글 생성 시점"),
                     fieldWithPath("comments.[].subComments[].modifiedDate").type(JsonFieldType.STRING).description("대댓글 수정 시점"),
@@ -621,15 +694,15 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].subComments[].url").type(JsonFieldType.STRING).description("대댓글이 있는 url"),
                     fieldWithPath("comments.[].subComments[].secret").type(JsonFieldType.BOOLEAN).description("대댓글 공개/비공개 여부"),
                     fieldWithPath("comments.[].subComments[].readable").type(JsonFieldType.BOOLEAN).description("대댓글 조회 가능 여부"),
-                    fieldWithPath("comments.[].subComments[].likingUsers[*]").type(JsonFieldType.ARRAY).description("좋아요 누른 유저 정보"),
+                    fieldWithPath("comments.[].subComments[].likeCount").type(JsonFieldType.NUMBER).description("대댓글 좋아요 수"),
+                    fieldWithPath("comments.[].subComments[].likedByMe").type(JsonFieldType.BOOLEAN).description("조회한 유저가 대댓글에 좋아요를 눌렀는지 여부"),
                     fieldWithPath("comments.[].subComments[].user").type(JsonFieldType.OBJECT).description("대댓글 작성 유저 정보"),
                     fieldWithPath("comments.[].subComments[].user.createdDate").type(JsonFieldType.STRING).description("유저 생성 시점"),
                     fieldWithPath("comments.[].subComments[].user.modifiedDate").type(JsonFieldType.STRING).description("유저 수정 시점"),
                     fieldWithPath("comments.[].subComments[].user.id").type(JsonFieldType.NUMBER).description("유저 id"),
                     fieldWithPath("comments.[].subComments[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("comments.[].subComments[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
-                    fieldWithPath("comments.[].subComments[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("comments.[].subComments[].user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"))
+                    fieldWithPath("comments.[].subComments[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"))
             ));
     }
 
@@ -663,13 +736,15 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
             .contentType(MediaType.APPLICATION_JSON)
             .param("sortOption", "LIKE")
             .param("url", "url")
-            .param("projectKey", secretKey))
+            .param("projectKey", secretKey)
+            .param("likeView", "FULL"))
             .andExpect(status().isOk())
             .andDo(document("api/v1/comments/get/like/success",
                 requestParameters(
                     parameterWithName("sortOption").description("정렬 방식"),
                     parameterWithName("url").description("조회 url"),
-                    parameterWithName("projectKey").description("프로젝트 시크릿 키")
+                    parameterWithName("projectKey").description("프로젝트 시크릿 키"),
+                    parameterWithName("likeView").description("좋아요 표시 방식 (COMPACT: 좋아요 수만, FULL: 좋아요 누른 유저 목록, 기본값 COMPACT)")
                 ),
                 responseFields(
                     fieldWithPath("totalComment").type(JsonFieldType.NUMBER).description("댓글의 총 개수"),
@@ -688,7 +763,6 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].likingUsers[*].profileImageUrl").type(JsonFieldType.STRING).description("좋아요 누른 유저 이미지 링크"),
                     fieldWithPath("comments.[].likingUsers[*].createdDate").type(JsonFieldType.STRING).description("좋아요 누른 시간"),
                     fieldWithPath("comments.[].likingUsers[*].modifiedDate").type(JsonFieldType.STRING).description("좋아요 수정한 시간"),
-                    fieldWithPath("comments.[].likingUsers[*].hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
                     fieldWithPath("comments.[].user").type(JsonFieldType.OBJECT).description("댓글 작성 유저 정보"),
                     fieldWithPath("comments.[].user.createdDate").type(JsonFieldType.STRING).description("유저 생성 시점"),
                     fieldWithPath("comments.[].user.modifiedDate").type(JsonFieldType.STRING).description("유저 수정 시점"),
@@ -696,7 +770,7 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("comments.[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
                     fieldWithPath("comments.[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("comments.[].user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
+                    fieldWithPath("comments.[].subCommentCount").type(JsonFieldType.NUMBER).description("대댓글의 총 개수"),
                     fieldWithPath("comments.[].subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보")
                 )
             ));
@@ -739,7 +813,8 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].url").type(JsonFieldType.STRING).description("댓글이 있는 url"),
                     fieldWithPath("comments.[].secret").type(JsonFieldType.BOOLEAN).description("댓글의 공개/비공개 여부"),
                     fieldWithPath("comments.[].readable").type(JsonFieldType.BOOLEAN).description("댓글 조회 가능 여부"),
-                    fieldWithPath("comments.[].likingUsers[*]").type(JsonFieldType.ARRAY).description("좋아요 누른 유저 정보"),
+                    fieldWithPath("comments.[].likeCount").type(JsonFieldType.NUMBER).description("댓글 좋아요 수"),
+                    fieldWithPath("comments.[].likedByMe").type(JsonFieldType.BOOLEAN).description("조회한 유저가 댓글에 좋아요를 눌렀는지 여부"),
                     fieldWithPath("comments.[].user").type(JsonFieldType.OBJECT).description("댓글 작성 유저 정보"),
                     fieldWithPath("comments.[].user.createdDate").type(JsonFieldType.STRING).description("유저 생성 시점"),
                     fieldWithPath("comments.[].user.modifiedDate").type(JsonFieldType.STRING).description("유저 수정 시점"),
@@ -747,7 +822,7 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("comments.[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
                     fieldWithPath("comments.[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("comments.[].user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
+                    fieldWithPath("comments.[].subCommentCount").type(JsonFieldType.NUMBER).description("대댓글의 총 개수"),
                     fieldWithPath("comments.[].subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보")
                 )
             ));
@@ -791,7 +866,8 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].id").type(JsonFieldType.NUMBER).description("댓글 id"),
                     fieldWithPath("comments.[].content").type(JsonFieldType.STRING).description("댓글 내용"),
                     fieldWithPath("comments.[].url").type(JsonFieldType.STRING).description("댓글이 있는 url"),
-                    fieldWithPath("comments.[].likingUsers[*]").type(JsonFieldType.ARRAY).description("좋아요 누른 유저 정보"),
+                    fieldWithPath("comments.[].likeCount").type(JsonFieldType.NUMBER).description("댓글 좋아요 수"),
+                    fieldWithPath("comments.[].likedByMe").type(JsonFieldType.BOOLEAN).description("조회한 유저가 댓글에 좋아요를 눌렀는지 여부"),
                     fieldWithPath("comments.[].secret").type(JsonFieldType.BOOLEAN).description("댓글의 공개/비공개 여부"),
                     fieldWithPath("comments.[].readable").type(JsonFieldType.BOOLEAN).description("댓글 조회 가능 여부"),
                     fieldWithPath("comments.[].user").type(JsonFieldType.OBJECT).description("댓글 작성 유저 정보"),
@@ -801,7 +877,7 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("comments.[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
                     fieldWithPath("comments.[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("comments.[].user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
+                    fieldWithPath("comments.[].subCommentCount").type(JsonFieldType.NUMBER).description("대댓글의 총 개수"),
                     fieldWithPath("comments.[].subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보")
                 )
             ));
@@ -839,7 +915,8 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
             .param("url", "url")
             .param("projectKey", secretKey)
             .param("page", "1")
-            .param("size", "5"))
+            .param("size", "5")
+            .param("likeView", "FULL"))
             .andExpect(status().isOk())
             .andDo(document("api/v1/comments/paging/get/like/success",
                 requestParameters(
@@ -847,7 +924,8 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     parameterWithName("url").description("조회 url"),
                     parameterWithName("projectKey").description("프로젝트 시크릿 키"),
                     parameterWithName("page").description("페이지"),
-                    parameterWithName("size").description("페이지당 댓글의 개수")
+                    parameterWithName("size").description("페이지당 댓글의 개수"),
+                    parameterWithName("likeView").description("좋아요 표시 방식 (COMPACT: 좋아요 수만, FULL: 좋아요 누른 유저 목록, 기본값 COMPACT)")
                 ),
                 responseFields(
                     fieldWithPath("totalComment").type(JsonFieldType.NUMBER).description("댓글의 총 개수"),
@@ -870,7 +948,6 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                         .description("좋아요 누른 시간"),
                     fieldWithPath("comments.[].likingUsers[*].modifiedDate").type(JsonFieldType.STRING)
                         .description("좋아요 수정한 시간"),
-                    fieldWithPath("comments.[].likingUsers[*].hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
                     fieldWithPath("comments.[].user").type(JsonFieldType.OBJECT).description("댓글 작성 유저 정보"),
                     fieldWithPath("comments.[].user.createdDate").type(JsonFieldType.STRING).description("유저 생성 시점"),
                     fieldWithPath("comments.[].user.modifiedDate").type(JsonFieldType.STRING).description("유저 수정 시점"),
@@ -878,7 +955,7 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("comments.[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
                     fieldWithPath("comments.[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("comments.[].user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
+                    fieldWithPath("comments.[].subCommentCount").type(JsonFieldType.NUMBER).description("대댓글의 총 개수"),
                     fieldWithPath("comments.[].subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보")
                 )
             ));
@@ -924,7 +1001,62 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].url").type(JsonFieldType.STRING).description("댓글이 있는 url"),
                     fieldWithPath("comments.[].secret").type(JsonFieldType.BOOLEAN).description("댓글의 공개/비공개 여부"),
                     fieldWithPath("comments.[].readable").type(JsonFieldType.BOOLEAN).description("댓글 조회 가능 여부"),
-                    fieldWithPath("comments.[].likingUsers[*]").type(JsonFieldType.ARRAY).description("좋아요 누른 유저 정보"),
+                    fieldWithPath("comments.[].likeCount").type(JsonFieldType.NUMBER).description("댓글 좋아요 수"),
+                    fieldWithPath("comments.[].likedByMe").type(JsonFieldType.BOOLEAN).description("조회한 유저가 댓글에 좋아요를 눌렀는지 여부"),
+                    fieldWithPath("comments.[].user").type(JsonFieldType.OBJECT).description("댓글 작성 유저 정보"),
+                    fieldWithPath("comments.[].user.createdDate").type(JsonFieldType.STRING).description("유저 생성 시점"),
+                    fieldWithPath("comments.[].user.modifiedDate").type(JsonFieldType.STRING).description("유저 수정 시점"),
+                    fieldWithPath("comments.[].user.id").type(JsonFieldType.NUMBER).description("유저 id"),
+                    fieldWithPath("comments.[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
+                    fieldWithPath("comments.[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
+                    fieldWithPath("comments.[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
+                    fieldWithPath("comments.[].subCommentCount").type(JsonFieldType.NUMBER).description("대댓글의 총 개수"),
+                    fieldWithPath("comments.[].subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보")
+                )
+            ));
+    }
+
+    @DisplayName("커서를 이용해 특정 URL의 댓글을 최신순으로 조회한다.")
+    @Test
+    void readByCursorOrderByLatest() throws Exception {
+        소셜_로그인_댓글_등록됨("content1", "url");
+        소셜_로그인_댓글_등록됨("content2", "url");
+        소셜_로그인_댓글_등록됨("content3", "url");
+        소셜_로그인_댓글_등록됨("content4", "url");
+        소셜_로그인_댓글_등록됨("content5", "url");
+
+        String responseJson = mockMvc.perform(get("/api/v1/comments/paging")
+            .contentType(MediaType.APPLICATION_JSON)
+            .param("sortOption", "LATEST")
+            .param("url", "url")
+            .param("projectKey", secretKey)
+            .param("cursor", "")
+            .param("size", "3")
+            .param("includeTotal", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalComment").value(5))
+            .andExpect(jsonPath("$.comments[0].content").value("content5"))
+            .andDo(document("api/v1/comments/paging/get/cursor/success",
+                requestParameters(
+                    parameterWithName("sortOption").description("정렬 방식"),
+                    parameterWithName("url").description("조회 url"),
+                    parameterWithName("projectKey").description("프로젝트 시크릿 키"),
+                    parameterWithName("cursor").description("이전 응답의 nextCursor (첫 페이지는 빈 값)"),
+                    parameterWithName("size").description("페이지당 댓글의 개수"),
+                    parameterWithName("includeTotal").description("댓글의 총 개수 포함 여부 (기본값 false)")
+                ),
+                responseFields(
+                    fieldWithPath("totalComment").type(JsonFieldType.NUMBER).description("댓글의 총 개수 (includeTotal이 true일 때만 존재)"),
+                    fieldWithPath("nextCursor").type(JsonFieldType.STRING).description("다음 페이지 커서 (마지막 페이지면 null)"),
+                    fieldWithPath("comments.[].createdDate").type(JsonFieldType.STRING).description("댓글 생성 시점"),
+                    fieldWithPath("comments.[].modifiedDate").type(JsonFieldType.STRING).description("댓글 수정 시점"),
+                    fieldWithPath("comments.[].id").type(JsonFieldType.NUMBER).description("댓글 id"),
+                    fieldWithPath("comments.[].content").type(JsonFieldType.STRING).description("댓글 내용"),
+                    fieldWithPath("comments.[].url").type(JsonFieldType.STRING).description("댓글이 있는 url"),
+                    fieldWithPath("comments.[].likeCount").type(JsonFieldType.NUMBER).description("댓글 좋아요 수"),
+                    fieldWithPath("comments.[].likedByMe").type(JsonFieldType.BOOLEAN).description("조회한 유저가 댓글에 좋아요를 눌렀는지 여부"),
+                    fieldWithPath("comments.[].secret").type(JsonFieldType.BOOLEAN).description("댓글의 공개/비공개 여부"),
+                    fieldWithPath("comments.[].readable").type(JsonFieldType.BOOLEAN).description("댓글 조회 가능 여부"),
                     fieldWithPath("comments.[].user").type(JsonFieldType.OBJECT).description("댓글 작성 유저 정보"),
                     fieldWithPath("comments.[].user.createdDate").type(JsonFieldType.STRING).description("유저 생성 시점"),
                     fieldWithPath("comments.[].user.modifiedDate").type(JsonFieldType.STRING).description("유저 수정 시점"),
@@ -932,9 +1064,98 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("comments.[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
                     fieldWithPath("comments.[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("comments.[].user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
+                    fieldWithPath("comments.[].subCommentCount").type(JsonFieldType.NUMBER).description("대댓글의 총 개수"),
                     fieldWithPath("comments.[].subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보")
                 )
+            ))
+            .andReturn().getResponse().getContentAsString();
+        String nextCursor = new ObjectMapper().readValue(responseJson, CommentCursorResponses.class).getNextCursor();
+
+        mockMvc.perform(get("/api/v1/comments/paging")
+            .contentType(MediaType.APPLICATION_JSON)
+            .param("sortOption", "LATEST")
+            .param("url", "url")
+            .param("projectKey", secretKey)
+            .param("cursor", nextCursor)
+            .param("size", "3"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalComment").isEmpty())
+            .andExpect(jsonPath("$.nextCursor").isEmpty())
+            .andExpect(jsonPath("$.comments[0].content").value("content2"))
+            .andExpect(jsonPath("$.comments[1].content").value("content1"));
+    }
+
+    @DisplayName("커서를 이용해 특정 댓글의 대댓글을 조회한다.")
+    @Test
+    void readSubCommentsByCursor() throws Exception {
+        CommentResponse commentResponse = 소셜_로그인_댓글_등록됨_Response_반환("content", "url");
+        소셜_로그인_대댓글_등록됨("subContent1", "url", commentResponse.getId(), false);
+        소셜_로그인_대댓글_등록됨("subContent2", "url", commentResponse.getId(), false);
+        소셜_로그인_대댓글_등록됨("subContent3", "url", commentResponse.getId(), false);
+
+        mockMvc.perform(get("/api/v1/comments/" + commentResponse.getId() + "/sub-comments")
+            .contentType(MediaType.APPLICATION_JSON)
+            .param("cursor", "")
+            .param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.subCommentCount").value(3))
+            .andExpect(jsonPath("$.subComments[0].content").value("subContent1"))
+            .andExpect(jsonPath("$.subComments[1].content").value("subContent2"))
+            .andDo(document("api/v1/comments/sub-comments/get/cursor/success",
+                requestParameters(
+                    parameterWithName("cursor").description("이전 응답의 nextCursor 또는 댓글의 nextSubCommentCursor (처음부터 조회할 때는 빈 값)"),
+                    parameterWithName("size").description("한 번에 조회할 대댓글의 개수")
+                ),
+                responseFields(
+                    fieldWithPath("subCommentCount").type(JsonFieldType.NUMBER).description("대댓글의 총 개수"),
+                    fieldWithPath("nextCursor").type(JsonFieldType.STRING).description("다음 대댓글 커서 (마지막이면 null)"),
+                    fieldWithPath("subComments[].createdDate").type(JsonFieldType.STRING).description("대댓글 생성 시점"),
+                    fieldWithPath("subComments[].modifiedDate").type(JsonFieldType.STRING).description("대댓글 수정 시점"),
+                    fieldWithPath("subComments[].id").type(JsonFieldType.NUMBER).description("대댓글 id"),
+                    fieldWithPath("subComments[].content").type(JsonFieldType.STRING).description("대댓글 내용"),
+                    fieldWithPath("subComments[].url").type(JsonFieldType.STRING).description("대댓글이 있는 url"),
+                    fieldWithPath("subComments[].secret").type(JsonFieldType.BOOLEAN).description("대댓글 공개/비공개 여부"),
+                    fieldWithPath("subComments[].readable").type(JsonFieldType.BOOLEAN).description("대댓글 조회 가능 여부"),
+                    fieldWithPath("subComments[].likeCount").type(JsonFieldType.NUMBER).description("대댓글 좋아요 수"),
+                    fieldWithPath("subComments[].likedByMe").type(JsonFieldType.BOOLEAN).description("조회한 유저가 대댓글에 좋아요를 눌렀는지 여부"),
+                    fieldWithPath("subComments[].user").type(JsonFieldType.OBJECT).description("대댓글 작성 유저 정보"),
+                    fieldWithPath("subComments[].user.createdDate").type(JsonFieldType.STRING).description("유저 생성 시점"),
+                    fieldWithPath("subComments[].user.modifiedDate").type(JsonFieldType.STRING).description("유저 수정 시점"),
+                    fieldWithPath("subComments[].user.id").type(JsonFieldType.NUMBER).description("유저 id"),
+                    fieldWithPath("subComments[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
+                    fieldWithPath("subComments[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
+                    fieldWithPath("subComments[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지")
+                )
+            ));
+    }
+
+    @DisplayName("특정 댓글에 좋아요를 누른 유저를 페이지 단위로 조회한다.")
+    @Test
+    void readLikingUsers() throws Exception {
+        CommentResponse commentResponse = 소셜_로그인_댓글_등록됨_Response_반환("content", "url");
+        소셜_로그인_댓글_좋아요_누름("content", "url", commentResponse.getId());
+
+        mockMvc.perform(get("/api/v1/comments/" + commentResponse.getId() + "/likes")
+            .contentType(MediaType.APPLICATION_JSON)
+            .param("page", "1")
+            .param("size", "10"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalLike").value(1))
+            .andDo(document("api/v1/comments/likes/get/success",
+                requestParameters(
+                    parameterWithName("page").description("페이지"),
+                    parameterWithName("size").description("페이지당 유저의 개수")
+                ),
+                responseFields(
+                    fieldWithPath("totalLike").type(JsonFieldType.NUMBER).description("좋아요의 총 개수"),
+                    fieldWithPath("totalPage").type(JsonFieldType.NUMBER).description("페이지의 총 개수"),
+                    fieldWithPath("likingUsers[].id").type(JsonFieldType.NUMBER).description("좋아요 누른 유저 id"),
+                    fieldWithPath("likingUsers[].nickName").type(JsonFieldType.STRING).description("좋아요 누른 유저 닉네임"),
+                    fieldWithPath("likingUsers[].type").type(JsonFieldType.STRING).description("좋아요 누른 유저 타입"),
+                    fieldWithPath("likingUsers[].profileImageUrl").type(JsonFieldType.STRING).description("좋아요 누른 유저 프로필 이미지"),
+                    fieldWithPath("likingUsers[].createdDate").type(JsonFieldType.STRING).description("유저 생성 시점"),
+                    fieldWithPath("likingUsers[].modifiedDate").type(JsonFieldType.STRING).description("유저 수정 시점")
+                )
             ));
     }
 
@@ -988,7 +1209,6 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("comments.[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
                     fieldWithPath("comments.[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("comments.[].user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
                     fieldWithPath("comments.[].subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보")
                 )
             ));
@@ -1059,7 +1279,6 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                         .description("좋아요 누른 시간"),
                     fieldWithPath("comments.[].likingUsers[*].modifiedDate").type(JsonFieldType.STRING)
                         .description("좋아요 수정한 시간"),
-                    fieldWithPath("comments.[].likingUsers[*].hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
                     fieldWithPath("comments.[].user").type(JsonFieldType.OBJECT).description("댓글 작성 유저 정보"),
                     fieldWithPath("comments.[].user.createdDate").type(JsonFieldType.STRING).description("유저 생성 시점"),
                     fieldWithPath("comments.[].user.modifiedDate").type(JsonFieldType.STRING).description("유저 수정 시점"),
@@ -1067,7 +1286,6 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("comments.[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
                     fieldWithPath("comments.[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("comments.[].user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
                     fieldWithPath("comments.[].subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보")
                 )
             ));
@@ -1123,7 +1341,6 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("comments.[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
                     fieldWithPath("comments.[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("comments.[].user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
                     fieldWithPath("comments.[].subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보")
                 )
             ));
@@ -1181,7 +1398,6 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("comments.[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
                     fieldWithPath("comments.[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("comments.[].user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
                     fieldWithPath("comments.[].subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보")
                 )
             ));
@@ -1254,7 +1470,6 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                         .description("좋아요 누른 시간"),
                     fieldWithPath("comments.[].likingUsers[*].modifiedDate").type(JsonFieldType.STRING)
                         .description("좋아요 수정한 시간"),
-                    fieldWithPath("comments.[].likingUsers[*].hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
                     fieldWithPath("comments.[].user").type(JsonFieldType.OBJECT).description("댓글 작성 유저 정보"),
                     fieldWithPath("comments.[].user.createdDate").type(JsonFieldType.STRING).description("유저 생성 시점"),
                     fieldWithPath("comments.[].user.modifiedDate").type(JsonFieldType.STRING).description("유저 수정 시점"),
@@ -1262,7 +1477,6 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("comments.[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
                     fieldWithPath("comments.[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("comments.[].user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
                     fieldWithPath("comments.[].subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보")
                 )
             ));
@@ -1320,7 +1534,6 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("comments.[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("comments.[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
                     fieldWithPath("comments.[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("comments.[].user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
                     fieldWithPath("comments.[].subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보")
                 )
             ));
@@ -1519,7 +1732,6 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("user.type").type(JsonFieldType.STRING).description("유저 타입"),
                     fieldWithPath("user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부"),
                     fieldWithPath("subComments[]").type(JsonFieldType.ARRAY).description("대댓글 정보"),
                     fieldWithPath("subComments[].createdDate").type(JsonFieldType.STRING).description("대댓글 생성 시점"),
                     fieldWithPath("subComments[].modifiedDate").type(JsonFieldType.STRING).description("대댓글 수정 시점"),
@@ -1535,8 +1747,7 @@ class CommentAcceptanceTest extends MockSpringContainerTest {
                     fieldWithPath("subComments[].user.id").type(JsonFieldType.NUMBER).description("유저 id"),
                     fieldWithPath("subComments[].user.nickName").type(JsonFieldType.STRING).description("유저 닉네임"),
                     fieldWithPath("subComments[].user.type").type(JsonFieldType.STRING).description("유저 타입"),
-                    fieldWithPath("subComments[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지"),
-                    fieldWithPath("subComments[].user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("유저가 최근에 알람을 받았는지 여부")
+                    fieldWithPath("subComments[].user.profileImageUrl").type(JsonFieldType.STRING).description("유저 프로필 이미지")
                 )
             ));
     }
@@ -85,7 +85,7 @@ public class CommentControllerTest {
         GuestUser user = new GuestUser();
         given(commentService.readSecretComment(eq(commentId), eq(user), any()))
             .willReturn(new CommentResponse(1L, "content", "url", true, true, LocalDateTime.now(), LocalDateTime.now(),
-                null, UserResponse.of(socialLoginUser), null));
+                null, UserResponse.of(socialLoginUser), null, null, null, null, null, null, null));
 
         mockMvc.perform(get("/api/v1/comments/" + commentId + "/secret-comment")
             .contentType(MediaType.APPLICATION_JSON)
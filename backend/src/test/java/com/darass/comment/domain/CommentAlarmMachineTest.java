@@ -5,31 +5,54 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.darass.commentalarm.domain.CommentAlarm;
 import com.darass.commentalarm.domain.CommentAlarmMachine;
 import com.darass.commentalarm.domain.CommentAlarmType;
+import com.darass.commentalarm.dto.CommentAlarmMessage;
+import com.darass.commentalarm.infrastructure.CommentAlarmSseHub;
+import com.darass.common.StompSessionRegistry;
 import com.darass.user.domain.SocialLoginUser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import reactor.core.Disposable;
 
 @DisplayName("CommentAlarmMachine 클래스")
 class CommentAlarmMachineTest {
 
     private CommentAlarmMachine commentAlarmMachine;
+    private StompSessionRegistry stompSessionRegistry;
     private StubMessageChannel stubMessageChannel;
+    private CommentAlarmSseHub commentAlarmSseHub;
+    private ObjectMapper objectMapper;
 
     @BeforeEach
     public void setup() {
         stubMessageChannel = new StubMessageChannel();
-        commentAlarmMachine = new CommentAlarmMachine(new SimpMessagingTemplate(stubMessageChannel));
+        stompSessionRegistry = new StompSessionRegistry(new SimpleMeterRegistry());
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        commentAlarmSseHub = new CommentAlarmSseHub(objectMapper, new SimpleMeterRegistry(), 60_000, 32, 0);
+        commentAlarmMachine = new CommentAlarmMachine(new SimpMessagingTemplate(stubMessageChannel),
+            stompSessionRegistry, commentAlarmSseHub);
     }
 
     @DisplayName("메세지 브로커에 메세지를 발행하고 구독한다.")
     @Test
-    void sendMessage() {
+    void sendPayload() throws JsonProcessingException {
         //given
         SocialLoginUser sender = SocialLoginUser.builder()
             .id(1L)
@@ -52,8 +75,11 @@ class CommentAlarmMachineTest {
             .comment(comment)
             .build();
 
+        subscribe("session1", "/queue/main2");
+        subscribe("session2", "/queue/module2");
+
         //when
-        commentAlarmMachine.sendMessage(commentAlarm);
+        commentAlarmMachine.sendPayload(2L, objectMapper.writeValueAsBytes(CommentAlarmMessage.of(commentAlarm)));
 
         //then
         List<Message<byte[]>> messages = stubMessageChannel.getMessages();
@@ -66,6 +92,43 @@ class CommentAlarmMachineTest {
         headerAccessor = MessageHeaderAccessor.getAccessor(messages.get(1), SimpMessageHeaderAccessor.class);
         assertThat(headerAccessor).isNotNull();
         assertThat(headerAccessor.getDestination()).isEqualTo("/queue/module2");
+        assertThat(messages.get(0).getPayload()).isSameAs(messages.get(1).getPayload());
+    }
+
+    @DisplayName("구독 중인 세션이 없는 수신자에게는 메세지를 발행하지 않는다.")
+    @Test
+    void sendPayload_without_subscriber() {
+        subscribe("session1", "/queue/main3");
+
+        commentAlarmMachine.sendPayload(2L, "{}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(stubMessageChannel.getMessages()).isEmpty();
+    }
+
+    @DisplayName("SSE로 구독한 유저에게도 같은 payload를 알람 id와 함께 보낸다.")
+    @Test
+    void sendPayload_sse() {
+        List<ServerSentEvent<String>> events = new CopyOnWriteArrayList<>();
+        Disposable subscription = commentAlarmSseHub.subscribe(2L, () -> new SliceImpl<>(Collections.emptyList()))
+            .subscribe(events::add);
+
+        commentAlarmMachine.sendPayload(2L, "{\"id\":7}".getBytes(StandardCharsets.UTF_8));
+        subscription.dispose();
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).id()).isEqualTo("7");
+        assertThat(events.get(0).data()).isEqualTo("{\"id\":7}");
+        assertThat(stubMessageChannel.getMessages()).isEmpty();
+        assertThat(commentAlarmSseHub.hasSubscriber(2L)).isFalse();
+    }
+
+    private void subscribe(String sessionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(destination);
+        stompSessionRegistry.subscribe(
+            new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
     }
 
 }
\ No newline at end of file
@@ -102,6 +102,7 @@ class CommentTest {
 
         commentWithGuestUser.addCommentLike(commentLike);
         assertThat(commentWithGuestUser.getCommentLikes()).hasSize(1);
+        assertThat(commentWithGuestUser.getLikeCount()).isEqualTo(1);
     }
 
     @DisplayName("deleteCommentLikeByUser 메소드는 좋아요를 제거한다.")
@@ -112,6 +113,7 @@ class CommentTest {
 
         commentWithGuestUser.deleteCommentLikeByUser(socialLoginUser);
         assertThat(commentWithGuestUser.getCommentLikes()).hasSize(0);
+        assertThat(commentWithGuestUser.getLikeCount()).isZero();
     }
 
     @DisplayName("제한길이를 초과하는 댓글을 생성하는 경우 예외가 발생한다.")
@@ -0,0 +1,152 @@
+package com.darass.comment.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.darass.comment.domain.Comment;
+import com.darass.comment.domain.CommentThreadEventType;
+import com.darass.comment.domain.StubMessageChannel;
+import com.darass.comment.dto.CommentThreadEvent;
+import com.darass.comment.dto.CommentThreadEvents;
+import com.darass.common.StompSessionRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+@DisplayName("CommentThreadEventPublisher 클래스")
+class CommentThreadEventPublisherTest {
+
+    private static final String PROJECT_KEY = "secretKey";
+    private static final String URL = "https://darass.co.kr/posts?id=1";
+    private static final int MAX_EVENT_COUNT = 3;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CommentThreadEventPublisher commentThreadEventPublisher;
+    private StompSessionRegistry stompSessionRegistry;
+    private StubMessageChannel stubMessageChannel;
+
+    @BeforeEach
+    void setUp() {
+        stubMessageChannel = new StubMessageChannel();
+        stompSessionRegistry = new StompSessionRegistry(new SimpleMeterRegistry());
+        commentThreadEventPublisher = new CommentThreadEventPublisher(new LocalCommentThreadEventBroadcaster(
+            new CommentThreadEventSender(new SimpMessagingTemplate(stubMessageChannel), stompSessionRegistry)),
+            objectMapper, 60_000, MAX_EVENT_COUNT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentThreadEventPublisher.shutdown();
+    }
+
+    @DisplayName("같은 스레드의 이벤트를 모아 한 번만 보내고, 좋아요 수는 마지막 값만 보낸다.")
+    @Test
+    void publish_coalesce() throws IOException {
+        subscribe("session1", CommentThreadEventPublisher.toDestination(PROJECT_KEY, URL));
+        Comment comment = Comment.builder().id(1L).url(URL).build();
+
+        publish(CommentThreadEvent.of(CommentThreadEventType.CREATE, comment));
+        publish(new CommentThreadEvent(CommentThreadEventType.LIKE_COUNT, 1L, null, 1));
+        publish(new CommentThreadEvent(CommentThreadEventType.LIKE_COUNT, 1L, null, 2));
+        commentThreadEventPublisher.flush();
+
+        assertThat(stubMessageChannel.getMessages()).hasSize(1);
+        CommentThreadEvents events = readEvents(stubMessageChannel.getMessages().get(0));
+        assertThat(events.getUrl()).isEqualTo(URL);
+        assertThat(events.isTruncated()).isFalse();
+        assertThat(events.getEvents()).extracting(CommentThreadEvent::getType)
+            .containsExactly(CommentThreadEventType.CREATE, CommentThreadEventType.LIKE_COUNT);
+        assertThat(events.getEvents().get(1).getLikeCount()).isEqualTo(2);
+    }
+
+    @DisplayName("한 구간에 쌓인 이벤트가 최대 개수를 넘으면 잘라내고 truncated로 알린다.")
+    @Test
+    void publish_truncated() throws IOException {
+        subscribe("session1", CommentThreadEventPublisher.toDestination(PROJECT_KEY, URL));
+
+        for (long id = 1; id <= MAX_EVENT_COUNT + 2; id++) {
+            publish(new CommentThreadEvent(CommentThreadEventType.CREATE, id, null, null));
+        }
+        commentThreadEventPublisher.flush();
+
+        CommentThreadEvents events = readEvents(stubMessageChannel.getMessages().get(0));
+        assertThat(events.isTruncated()).isTrue();
+        assertThat(events.getEvents()).hasSize(MAX_EVENT_COUNT);
+    }
+
+    @DisplayName("구독자가 없는 스레드의 이벤트는 보내지 않는다.")
+    @Test
+    void publish_without_subscriber() {
+        subscribe("session1", CommentThreadEventPublisher.toDestination(PROJECT_KEY, "https://darass.co.kr/other"));
+
+        publish(new CommentThreadEvent(CommentThreadEventType.DELETE, 1L, null, null));
+        commentThreadEventPublisher.flush();
+
+        assertThat(stubMessageChannel.getMessages()).isEmpty();
+    }
+
+    @DisplayName("여러 서버가 뜰 때는 다른 서버에 연결된 구독자에게도 이벤트를 보낸다.")
+    @Test
+    void publish_relay() {
+        StubMessageChannel otherNodeChannel = new StubMessageChannel();
+        StompSessionRegistry otherNodeRegistry = new StompSessionRegistry(new SimpleMeterRegistry());
+        RelayCommentThreadEventBroadcaster otherNode = new RelayCommentThreadEventBroadcaster(mock(AmqpTemplate.class),
+            new CommentThreadEventSender(new SimpMessagingTemplate(otherNodeChannel), otherNodeRegistry), "thread");
+        AmqpTemplate inProcessBroker = mock(AmqpTemplate.class);
+        RelayCommentThreadEventBroadcaster thisNode = new RelayCommentThreadEventBroadcaster(inProcessBroker,
+            new CommentThreadEventSender(new SimpMessagingTemplate(stubMessageChannel), stompSessionRegistry),
+            "thread");
+        doAnswer(invocation -> {
+            thisNode.receive(invocation.getArgument(2));
+            otherNode.receive(invocation.getArgument(2));
+            return null;
+        }).when(inProcessBroker).send(anyString(), anyString(), any());
+        CommentThreadEventPublisher relayPublisher = new CommentThreadEventPublisher(thisNode, objectMapper, 60_000,
+            MAX_EVENT_COUNT);
+        subscribe(otherNodeRegistry, "session1", CommentThreadEventPublisher.toDestination(PROJECT_KEY, URL));
+
+        relayPublisher.publishAfterCommit(PROJECT_KEY, URL,
+            new CommentThreadEvent(CommentThreadEventType.DELETE, 1L, null, null));
+        relayPublisher.flush();
+        relayPublisher.shutdown();
+
+        assertThat(stubMessageChannel.getMessages()).isEmpty();
+        assertThat(otherNodeChannel.getMessages()).hasSize(1);
+    }
+
+    private void publish(CommentThreadEvent event) {
+        commentThreadEventPublisher.publishAfterCommit(PROJECT_KEY, URL, event);
+    }
+
+    private CommentThreadEvents readEvents(Message<byte[]> message) throws IOException {
+        return objectMapper.readValue(message.getPayload(), CommentThreadEvents.class);
+    }
+
+    private void subscribe(String sessionId, String destination) {
+        subscribe(stompSessionRegistry, sessionId, destination);
+    }
+
+    private void subscribe(StompSessionRegistry registry, String sessionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(destination);
+        registry.subscribe(
+            new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+    }
+}
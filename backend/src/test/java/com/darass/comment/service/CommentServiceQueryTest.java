@@ -0,0 +1,464 @@
+package com.darass.comment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.darass.QueryCounter;
+import com.darass.SpringContainerTest;
+import com.darass.auth.domain.KaKaoOAuthProvider;
+import com.darass.auth.infrastructure.JwtTokenProvider;
+import com.darass.comment.domain.Comment;
+import com.darass.comment.domain.CommentLike;
+import com.darass.comment.domain.LikeView;
+import com.darass.comment.domain.SortOption;
+import com.darass.comment.dto.CommentCreateRequest;
+import com.darass.comment.dto.CommentReadRequest;
+import com.darass.comment.dto.CommentResponse;
+import com.darass.comment.dto.CommentReadRequestInProject;
+import com.darass.comment.dto.CommentResponses;
+import com.darass.comment.dto.CommentResponsesWriter;
+import com.darass.comment.dto.SubCommentCursorResponses;
+import com.darass.comment.dto.SubCommentReadRequestByCursor;
+import com.darass.comment.dto.SubCommentResponse;
+import com.darass.comment.infrastructure.CachedCommentThread;
+import com.darass.comment.infrastructure.CommentThreadCache;
+import com.darass.comment.repository.CommentLikeRepository;
+import com.darass.comment.repository.CommentRepository;
+import com.darass.commentalarm.domain.CommentAlarm;
+import com.darass.commentalarm.domain.CommentAlarmMachine;
+import com.darass.commentalarm.domain.CommentAlarmType;
+import com.darass.commentalarm.dto.CommentAlarmMessage;
+import com.darass.commentalarm.repository.CommentAlarmRepository;
+import com.darass.project.domain.Project;
+import com.darass.project.infrastructure.ProjectCache;
+import com.darass.project.repository.ProjectRepository;
+import com.darass.user.domain.GuestUser;
+import com.darass.user.domain.SocialLoginUser;
+import com.darass.user.domain.User;
+import com.darass.user.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@DisplayName("CommentService 쿼리 수 테스트")
+class CommentServiceQueryTest extends SpringContainerTest {
+
+    private static final String URL = "url";
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CommentThreadCache commentThreadCache;
+
+    @Autowired
+    private ProjectCache projectCache;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CommentAlarmRepository commentAlarmRepository;
+
+    @Autowired
+    private CommentAlarmMachine commentAlarmMachine;
+
+    private User socialLoginUser;
+
+    private User guestUser;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        socialLoginUser = SocialLoginUser.builder()
+            .nickName("우기")
+            .profileImageUrl("http://프로필이미지-url")
+            .userType("socialLoginUser")
+            .email("bbwwpark@naver.com")
+            .oauthProvider(KaKaoOAuthProvider.NAME)
+            .oauthId("1234")
+            .build();
+        userRepository.save(socialLoginUser);
+
+        guestUser = GuestUser.builder()
+            .nickName("jayon")
+            .password("1234")
+            .build();
+        userRepository.save(guestUser);
+
+        project = Project.builder()
+            .user(socialLoginUser)
+            .name("깃헙 블로그 프로젝트")
+            .description("프로젝트 설명")
+            .build();
+        projectRepository.save(project);
+    }
+
+    @DisplayName("특정 URL의 댓글을 조회할 때 실행되는 쿼리 수는 댓글 수와 무관하다.")
+    @Test
+    void findAllCommentsByUrlAndProjectKey_query_count() {
+        saveComments(2);
+        projectCache.findBySecretKey(project.getSecretKey());
+        CommentReadRequest request =
+            new CommentReadRequest(SortOption.LATEST.name(), URL, project.getSecretKey(), LikeView.FULL.name(), false);
+        AtomicReference<CommentResponses> responses = new AtomicReference<>();
+
+        long smallThreadQueryCount = queryCounter.count(() ->
+            responses.set(commentService.findAllCommentsByUrlAndProjectKey(guestUser, request)));
+        assertThat(responses.get().getTotalComment()).isEqualTo(6L);
+
+        saveComments(30);
+        commentThreadCache.evictAll();
+        long largeThreadQueryCount = queryCounter.count(() ->
+            responses.set(commentService.findAllCommentsByUrlAndProjectKey(guestUser, request)));
+
+        assertThat(responses.get().getTotalComment()).isEqualTo(96L);
+        assertThat(responses.get().getComments().get(0).getSubComments()).hasSize(2);
+        assertThat(responses.get().getComments().get(0).getLikingUsers()).hasSize(2);
+        assertThat(largeThreadQueryCount).isEqualTo(smallThreadQueryCount);
+        assertThat(largeThreadQueryCount).isLessThanOrEqualTo(4L);
+    }
+
+    @DisplayName("간략 보기로 조회하면 좋아요 목록 대신 좋아요 수와 조회한 유저의 좋아요 여부를 보여준다.")
+    @Test
+    void findAllCommentsByUrlAndProjectKey_compact_like_view() {
+        saveComments(2);
+        projectCache.findBySecretKey(project.getSecretKey());
+        CommentReadRequest fullRequest =
+            new CommentReadRequest(SortOption.LATEST.name(), URL, project.getSecretKey(), LikeView.FULL.name(), false);
+        CommentReadRequest compactRequest =
+            new CommentReadRequest(SortOption.LATEST.name(), URL, project.getSecretKey(), null, false);
+        AtomicReference<CommentResponses> responses = new AtomicReference<>();
+
+        long fullQueryCount = queryCounter.count(() ->
+            responses.set(commentService.findAllCommentsByUrlAndProjectKey(guestUser, fullRequest)));
+        long compactQueryCount = queryCounter.count(() ->
+            responses.set(commentService.findAllCommentsByUrlAndProjectKey(guestUser, compactRequest)));
+        CommentResponse guestResponse = responses.get().getComments().get(0);
+        CommentResponse loginUserResponse = commentService
+            .findAllCommentsByUrlAndProjectKey(socialLoginUser, compactRequest).getComments().get(0);
+
+        assertThat(compactQueryCount).isLessThan(fullQueryCount);
+        assertThat(guestResponse.getLikingUsers()).isNull();
+        assertThat(guestResponse.getLikeCount()).isEqualTo(2);
+        assertThat(guestResponse.getLikedByMe()).isFalse();
+        assertThat(loginUserResponse.getLikedByMe()).isTrue();
+        assertThat(loginUserResponse.getSubComments()).extracting("likedByMe").containsExactly(false, false);
+    }
+
+    @DisplayName("같은 유저의 정보는 한 번만 만들어 여러 댓글이 함께 사용한다.")
+    @Test
+    void findAllCommentsByUrlAndProjectKey_shared_user_response() {
+        saveComments(2);
+        CommentReadRequest request =
+            new CommentReadRequest(SortOption.LATEST.name(), URL, project.getSecretKey(), LikeView.FULL.name(), false);
+
+        List<CommentResponse> responses = commentService.findAllCommentsByUrlAndProjectKey(guestUser, request)
+            .getComments();
+
+        assertThat(responses.get(0).getUser()).isSameAs(responses.get(1).getUser());
+        assertThat(responses.get(0).getSubComments().get(0).getUser()).isSameAs(responses.get(0).getUser());
+        assertThat(responses.get(0).getLikingUsers().get(0)).isSameAs(responses.get(0).getUser());
+    }
+
+    @DisplayName("유저 정보를 응답 최상단에 한 번씩만 담고, 댓글에는 유저 id만 담아 조회한다.")
+    @Test
+    void findAllCommentsByUrlAndProjectKey_normalize_users() {
+        saveComments(2);
+        CommentReadRequest request =
+            new CommentReadRequest(SortOption.LATEST.name(), URL, project.getSecretKey(), LikeView.FULL.name(), true);
+
+        CommentResponses responses = commentService.findAllCommentsByUrlAndProjectKey(guestUser, request);
+        CommentResponse response = responses.getComments().get(0);
+
+        assertThat(responses.getUsers()).containsOnlyKeys(socialLoginUser.getId(), guestUser.getId());
+        assertThat(response.getUser()).isNull();
+        assertThat(response.getUserId()).isEqualTo(socialLoginUser.getId());
+        assertThat(response.getLikingUsers()).isNull();
+        assertThat(response.getLikingUserIds()).containsExactlyInAnyOrder(socialLoginUser.getId(), guestUser.getId());
+        assertThat(response.getSubComments()).extracting("userId")
+            .containsExactly(socialLoginUser.getId(), socialLoginUser.getId());
+    }
+
+    @DisplayName("특정 URL의 댓글을 스트림으로 내보내도 한 번에 조회한 결과와 같다.")
+    @Test
+    void writeAllCommentsByUrlAndProjectKey() throws IOException {
+        saveComments(3);
+        CommentReadRequest request =
+            new CommentReadRequest(SortOption.LATEST.name(), URL, project.getSecretKey(), LikeView.FULL.name(), false);
+        CommentResponses expected = commentService.findAllCommentsByUrlAndProjectKey(guestUser, request);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        commentService.writeAllCommentsByUrlAndProjectKey(guestUser, request,
+            new CommentResponsesWriter(objectMapper, outputStream));
+        CommentResponses actual = objectMapper.readValue(outputStream.toByteArray(), CommentResponses.class);
+
+        assertThat(actual.getTotalComment()).isEqualTo(expected.getTotalComment());
+        assertThat(actual.getComments()).extracting("id")
+            .isEqualTo(expected.getComments().stream().map(CommentResponse::getId).collect(Collectors.toList()));
+        assertThat(actual.getComments().get(0).getSubComments()).extracting("id")
+            .isEqualTo(expected.getComments().get(0).getSubComments().stream()
+                .map(SubCommentResponse::getId)
+                .collect(Collectors.toList()));
+        assertThat(actual.getComments().get(0).getLikingUsers()).hasSize(2);
+    }
+
+    @DisplayName("프로젝트의 댓글 페이지를 batch마다 대댓글과 좋아요를 한 번에 조회해 스트림으로 내보낸다.")
+    @Test
+    void writeAllCommentsInProject() throws IOException {
+        saveComments(3);
+        CommentReadRequestInProject request = new CommentReadRequestInProject(SortOption.LATEST.name(),
+            project.getSecretKey(), LocalDate.EPOCH, LocalDate.now(), 1, 4);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        long queryCount = queryCounter.count(() -> commentService.writeAllCommentsInProject(request,
+            new CommentResponsesWriter(objectMapper, outputStream)));
+        CommentResponses actual = objectMapper.readValue(outputStream.toByteArray(), CommentResponses.class);
+
+        assertThat(actual.getTotalComment()).isEqualTo(9L);
+        assertThat(actual.getTotalPage()).isEqualTo(3);
+        assertThat(actual.getComments()).hasSize(4);
+        assertThat(actual.getComments().get(0).getUser().getId()).isEqualTo(socialLoginUser.getId());
+        assertThat(actual.getComments().get(2).getSubComments()).hasSize(2);
+        assertThat(actual.getComments().get(2).getLikingUsers()).hasSize(2);
+        assertThat(queryCount).isLessThanOrEqualTo(5L);
+    }
+
+    @DisplayName("댓글 알람은 쓰기 과정에서 이미 읽은 데이터만으로 만들어 추가 쿼리 없이 전송한다.")
+    @Test
+    void sendCommentAlarm_without_query() {
+        Comment comment = saveComment(null);
+        saveComment(comment);
+        saveCommentLike(comment, guestUser);
+        CommentAlarm commentAlarm = commentAlarmRepository
+            .save(comment.createCommentLikeAlarm(CommentAlarmType.CREATE_COMMENT_LIKE, guestUser));
+
+        long queryCount = queryCounter.count(() -> commentAlarmMachine
+            .sendPayload(commentAlarm.getReceiver().getId(), toPayload(CommentAlarmMessage.of(commentAlarm))));
+
+        assertThat(queryCount).isZero();
+    }
+
+    @DisplayName("대댓글을 모두 포함한 댓글에도 대댓글의 총 개수를 내려준다.")
+    @Test
+    void findAllCommentsByUrlAndProjectKey_sub_comment_count() {
+        Comment comment = saveComment(null);
+        IntStream.range(0, 3).forEach(i -> saveComment(comment));
+        CommentReadRequest request = new CommentReadRequest(SortOption.LATEST.name(), URL, project.getSecretKey(), null,
+            false);
+
+        CommentResponse response = commentService.findAllCommentsByUrlAndProjectKey(guestUser, request)
+            .getComments().get(0);
+
+        assertThat(response.getSubComments()).hasSize(3);
+        assertThat(response.getSubCommentCount()).isEqualTo(3);
+        assertThat(response.getNextSubCommentCursor()).isNull();
+    }
+
+    @DisplayName("대댓글이 많아도 댓글마다 앞쪽 대댓글만 조회하고, 나머지는 커서로 이어서 조회한다.")
+    @Test
+    void findAllCommentsByUrlAndProjectKey_sub_comment_preview() {
+        Comment comment = saveComment(null);
+        IntStream.range(0, 15).forEach(i -> saveComment(comment));
+        CommentReadRequest request = new CommentReadRequest(SortOption.LATEST.name(), URL, project.getSecretKey(), null, false);
+        AtomicReference<CommentResponses> responses = new AtomicReference<>();
+
+        queryCounter.count(() -> responses.set(commentService.findAllCommentsByUrlAndProjectKey(guestUser, request)));
+        CommentResponse response = responses.get().getComments().get(0);
+
+        assertThat(responses.get().getTotalComment()).isEqualTo(16L);
+        assertThat(response.getSubComments()).hasSize(10);
+        assertThat(response.getSubCommentCount()).isEqualTo(15);
+        assertThat(response.getNextSubCommentCursor()).isNotNull();
+
+        SubCommentCursorResponses nextResponses = commentService.findSubCommentsUsingCursor(comment.getId(), guestUser,
+            new SubCommentReadRequestByCursor(response.getNextSubCommentCursor(), 10, null));
+
+        assertThat(nextResponses.getSubCommentCount()).isEqualTo(15);
+        assertThat(nextResponses.getSubComments()).hasSize(5);
+        assertThat(nextResponses.getSubComments().get(0).getId())
+            .isGreaterThan(response.getSubComments().get(9).getId());
+        assertThat(nextResponses.getNextCursor()).isNull();
+    }
+
+    @DisplayName("같은 URL의 댓글을 다시 조회하면 스레드 버전만 조회해 캐시된 결과를 사용하고, 댓글이 등록되면 다시 조회한다.")
+    @Test
+    void findAllCommentsByUrlAndProjectKey_cache() {
+        saveComments(2);
+        CommentReadRequest request = new CommentReadRequest(SortOption.LATEST.name(), URL, project.getSecretKey(), null, false);
+        AtomicReference<CommentResponses> responses = new AtomicReference<>();
+
+        long firstQueryCount = queryCounter.count(() ->
+            responses.set(commentService.findAllCommentsByUrlAndProjectKey(guestUser, request)));
+        long hitCount = commentThreadCache.getHitCount();
+        long cachedQueryCount = queryCounter.count(() ->
+            responses.set(commentService.findAllCommentsByUrlAndProjectKey(guestUser, request)));
+
+        assertThat(firstQueryCount).isPositive();
+        assertThat(cachedQueryCount).isEqualTo(1L);
+        assertThat(commentThreadCache.getHitCount()).isEqualTo(hitCount + 1);
+
+        commentService.save(socialLoginUser,
+            new CommentCreateRequest(null, null, null, project.getSecretKey(), "content", URL));
+        long missCount = commentThreadCache.getMissCount();
+        responses.set(commentService.findAllCommentsByUrlAndProjectKey(guestUser, request));
+
+        assertThat(commentThreadCache.getMissCount()).isEqualTo(missCount + 1);
+        assertThat(responses.get().getTotalComment()).isEqualTo(7L);
+    }
+
+    @DisplayName("늦게 저장되는 이전 버전의 댓글 스레드는 새 버전의 캐시를 덮어쓰지 않고, 다른 버전으로 조회하면 사용하지 않는다.")
+    @Test
+    void commentThreadCache_version() {
+        CachedCommentThread newThread = new CachedCommentThread(1L, 1, List.of());
+        CachedCommentThread staleThread = new CachedCommentThread(1L, 0, List.of());
+
+        commentThreadCache.put(project.getSecretKey(), URL, SortOption.LATEST, LikeView.COMPACT, 2, newThread);
+        commentThreadCache.put(project.getSecretKey(), URL, SortOption.LATEST, LikeView.COMPACT, 1, staleThread);
+
+        assertThat(commentThreadCache.find(project.getSecretKey(), URL, SortOption.LATEST, LikeView.COMPACT, 2))
+            .containsSame(newThread);
+        assertThat(commentThreadCache.find(project.getSecretKey(), URL, SortOption.LATEST, LikeView.COMPACT, 3))
+            .isEmpty();
+    }
+
+    @DisplayName("캐시된 댓글도 조회하는 사용자에 따라 비밀 댓글을 가린다.")
+    @Test
+    void findAllCommentsByUrlAndProjectKey_cache_secret_comment() {
+        commentRepository.save(Comment.builder()
+            .user(guestUser)
+            .project(project)
+            .url(URL)
+            .content("secret content")
+            .secret(true)
+            .build());
+        CommentReadRequest request = new CommentReadRequest(SortOption.LATEST.name(), URL, project.getSecretKey(), null, false);
+
+        CommentResponse adminResponse = commentService.findAllCommentsByUrlAndProjectKey(socialLoginUser, request)
+            .getComments().get(0);
+        AtomicReference<CommentResponses> responses = new AtomicReference<>();
+        long queryCount = queryCounter.count(() ->
+            responses.set(commentService.findAllCommentsByUrlAndProjectKey(guestUser, request)));
+
+        assertThat(queryCount).isEqualTo(1L);
+        assertThat(adminResponse.isReadable()).isTrue();
+        assertThat(responses.get().getComments().get(0).isReadable()).isFalse();
+    }
+
+    @DisplayName("프로젝트 정보가 캐시되어 있으면 댓글을 등록할 때 프로젝트를 조회하지 않는다.")
+    @Test
+    void save_query_count_with_project_cache() {
+        CommentCreateRequest request = new CommentCreateRequest(null, null, null, project.getSecretKey(), "content", URL);
+        commentService.save(socialLoginUser, request);
+        projectCache.evictAll();
+
+        long coldQueryCount = queryCounter.count(() -> commentService.save(socialLoginUser, request));
+        long warmQueryCount = queryCounter.count(() -> commentService.save(socialLoginUser, request));
+
+        assertThat(coldQueryCount - warmQueryCount).isEqualTo(1L);
+    }
+
+    @DisplayName("로그인 유저의 댓글 조회 요청은 캐시된 인증 정보로 유저를 만들어, 유저를 조회하는 쿼리를 실행하지 않는다.")
+    @Test
+    void read_login_user_query_count() {
+        saveComments(2);
+        String accessToken = jwtTokenProvider.createAccessToken((SocialLoginUser) socialLoginUser);
+        CommentReadRequest request =
+            new CommentReadRequest(SortOption.LATEST.name(), URL, project.getSecretKey(), LikeView.FULL.name(), false);
+        readComments(accessToken);
+
+        long serviceQueryCount = queryCounter.count(() -> {
+            commentService.findThreadETag(socialLoginUser, project.getSecretKey(), URL);
+            commentService.findAllCommentsByUrlAndProjectKey(socialLoginUser, request);
+        });
+        long requestQueryCount = queryCounter.count(() -> readComments(accessToken));
+
+        assertThat(requestQueryCount).isEqualTo(serviceQueryCount);
+    }
+
+    private void readComments(String accessToken) {
+        try {
+            mockMvc.perform(get("/api/v1/comments")
+                .header("Authorization", "Bearer " + accessToken)
+                .param("sortOption", SortOption.LATEST.name())
+                .param("url", URL)
+                .param("projectKey", project.getSecretKey())
+                .param("likeView", LikeView.FULL.name()))
+                .andExpect(status().isOk());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] toPayload(CommentAlarmMessage commentAlarmMessage) {
+        try {
+            return objectMapper.writeValueAsBytes(commentAlarmMessage);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void saveComments(int count) {
+        IntStream.range(0, count).forEach(i -> {
+            Comment comment = saveComment(null);
+            saveComment(comment);
+            saveComment(comment);
+            saveCommentLike(comment, socialLoginUser);
+            saveCommentLike(comment, guestUser);
+        });
+    }
+
+    private Comment saveComment(Comment parent) {
+        Comment comment = commentRepository.save(Comment.builder()
+            .user(socialLoginUser)
+            .project(project)
+            .url(URL)
+            .content("content")
+            .parent(parent)
+            .build());
+        if (parent != null) {
+            commentRepository.increaseReplyCount(parent.getId());
+        }
+        return comment;
+    }
+
+    private void saveCommentLike(Comment comment, User user) {
+        commentLikeRepository.save(CommentLike.builder()
+            .comment(comment)
+            .user(user)
+            .build());
+        commentRepository.increaseLikeCount(comment.getId());
+    }
+}
@@ -4,15 +4,23 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 
 import com.darass.SpringContainerTest;
 import com.darass.auth.domain.KaKaoOAuthProvider;
 import com.darass.comment.domain.Comment;
 import com.darass.comment.domain.CommentLike;
+import com.darass.comment.domain.CommentThreadEventType;
 import com.darass.comment.domain.SortOption;
+import com.darass.comment.dto.CommentCountRequestInProject;
+import com.darass.comment.dto.CommentCountResponse;
 import com.darass.comment.dto.CommentCreateRequest;
+import com.darass.comment.dto.CommentCursorResponses;
 import com.darass.comment.dto.CommentDeleteRequest;
+import com.darass.comment.dto.CommentLikeReadRequestByPagination;
+import com.darass.comment.dto.CommentLikeResponses;
 import com.darass.comment.dto.CommentReadRequest;
+import com.darass.comment.dto.CommentReadRequestByCursor;
 import com.darass.comment.dto.CommentReadRequestByPagination;
 import com.darass.comment.dto.CommentReadRequestBySearch;
 import com.darass.comment.dto.CommentReadRequestInProject;
@@ -21,12 +29,17 @@ import com.darass.comment.dto.CommentResponse;
 import com.darass.comment.dto.CommentResponses;
 import com.darass.comment.dto.CommentStatRequest;
 import com.darass.comment.dto.CommentStatResponse;
+import com.darass.comment.dto.CommentThreadEvent;
 import com.darass.comment.dto.CommentUpdateRequest;
+import com.darass.comment.dto.SubCommentCursorResponses;
+import com.darass.comment.dto.SubCommentReadRequestByCursor;
+import com.darass.comment.infrastructure.CommentThreadEventPublisher;
 import com.darass.comment.repository.CommentLikeRepository;
 import com.darass.comment.repository.CommentRepository;
 import com.darass.commentalarm.domain.CommentAlarm;
 import com.darass.commentalarm.domain.CommentAlarmMachine;
 import com.darass.commentalarm.domain.CommentAlarmType;
+import com.darass.commentalarm.infrastructure.CommentAlarmUnreadCounter;
 import com.darass.commentalarm.repository.CommentAlarmRepository;
 import com.darass.exception.httpbasicexception.BadRequestException;
 import com.darass.exception.httpbasicexception.NotFoundException;
@@ -42,9 +55,12 @@ import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.transaction.annotation.Transactional;
@@ -68,12 +84,18 @@ class CommentServiceTest extends SpringContainerTest {
     @Autowired
     private CommentAlarmRepository commentAlarmRepository;
 
+    @Autowired
+    private CommentAlarmUnreadCounter commentAlarmUnreadCounter;
+
     @Autowired
     private CommentService commentService;
 
     @MockBean
     private CommentAlarmMachine commentAlarmMachine;
 
+    @MockBean
+    private CommentThreadEventPublisher commentThreadEventPublisher;
+
     private User socialLoginUser;
 
     private GuestUser guestUser;
@@ -86,7 +108,7 @@ class CommentServiceTest extends SpringContainerTest {
 
     @BeforeEach
     void setUp() {
-        doNothing().when(commentAlarmMachine).sendMessage(any());
+        doNothing().when(commentAlarmMachine).sendPayload(any(), any());
 
         socialLoginUser = SocialLoginUser.builder()
             .nickName("우기")
@@ -142,6 +164,7 @@ class CommentServiceTest extends SpringContainerTest {
             .user(socialLoginUser)
             .build();
         commentLikeRepository.save(likedComment2);
+        commentRepository.increaseLikeCount(savedComment2.getId());
 
         Comment comment3 = Comment.builder()
             .user(socialLoginUser)
@@ -221,7 +244,7 @@ class CommentServiceTest extends SpringContainerTest {
     @DisplayName("특정 URL의 댓글을 최신순으로 조회한다.")
     @Test
     void findAllCommentsByUrlAndProjectKey_latest() {
-        CommentReadRequest request = new CommentReadRequest(SortOption.LATEST.name(), "url", project.getSecretKey());
+        CommentReadRequest request = new CommentReadRequest(SortOption.LATEST.name(), "url", project.getSecretKey(), null, false);
         List<CommentResponse> responses = commentService.findAllCommentsByUrlAndProjectKey(admin, request).getComments();
         assertThat(responses).extracting("content").isEqualTo(Arrays.asList("content3", "content2", "content1"));
     }
@@ -229,7 +252,7 @@ class CommentServiceTest extends SpringContainerTest {
     @DisplayName("특정 URL의 댓글을 좋아요순으로 조회한다.")
     @Test
     void findAllCommentsByUrlAndProjectKey_like() {
-        CommentReadRequest request = new CommentReadRequest(SortOption.LIKE.name(), "url", project.getSecretKey());
+        CommentReadRequest request = new CommentReadRequest(SortOption.LIKE.name(), "url", project.getSecretKey(), null, false);
         List<CommentResponse> responses = commentService.findAllCommentsByUrlAndProjectKey(admin, request).getComments();
         assertThat(responses).extracting("content").isEqualTo(Arrays.asList("content2", "content1", "content3"));
     }
@@ -237,7 +260,7 @@ class CommentServiceTest extends SpringContainerTest {
     @DisplayName("특정 URL의 댓글을 과거순으로 조회한다.")
     @Test
     void findAllCommentsByUrlAndProjectKey_oldest() {
-        CommentReadRequest request = new CommentReadRequest(SortOption.OTHER.name(), "url", project.getSecretKey());
+        CommentReadRequest request = new CommentReadRequest(SortOption.OTHER.name(), "url", project.getSecretKey(), null, false);
         List<CommentResponse> responses = commentService.findAllCommentsByUrlAndProjectKey(admin, request).getComments();
         assertThat(responses).extracting("content").isEqualTo(Arrays.asList("content1", "content2", "content3"));
     }
@@ -246,8 +269,8 @@ class CommentServiceTest extends SpringContainerTest {
     @Test
     void findAllCommentsByUrlAndProjectKeyUsingPagination_latest() {
         CommentReadRequestByPagination request =
-            new CommentReadRequestByPagination(SortOption.LATEST.name(), "url", project.getSecretKey(), 1, 1);
-        List<CommentResponse> responses = commentService.findAllCommentsByUrlAndProjectKeyUsingPagination(request)
+            new CommentReadRequestByPagination(SortOption.LATEST.name(), "url", project.getSecretKey(), 1, 1, null, false);
+        List<CommentResponse> responses = commentService.findAllCommentsByUrlAndProjectKeyUsingPagination(admin, request)
             .getComments();
         assertThat(responses).extracting("content")
             .isEqualTo(Collections.singletonList("content3"));
@@ -257,8 +280,8 @@ class CommentServiceTest extends SpringContainerTest {
     @Test
     void findAllCommentsByUrlAndProjectKeyUsingPagination_like() {
         CommentReadRequestByPagination request =
-            new CommentReadRequestByPagination(SortOption.LIKE.name(), "url", project.getSecretKey(), 1, 1);
-        List<CommentResponse> responses = commentService.findAllCommentsByUrlAndProjectKeyUsingPagination(request)
+            new CommentReadRequestByPagination(SortOption.LIKE.name(), "url", project.getSecretKey(), 1, 1, null, false);
+        List<CommentResponse> responses = commentService.findAllCommentsByUrlAndProjectKeyUsingPagination(admin, request)
             .getComments();
         assertThat(responses).extracting("content")
             .isEqualTo(Collections.singletonList("content2"));
@@ -268,13 +291,203 @@ class CommentServiceTest extends SpringContainerTest {
     @Test
     void findAllCommentsByUrlAndProjectKeyUsingPagination_oldest() {
         CommentReadRequestByPagination request =
-            new CommentReadRequestByPagination(SortOption.OTHER.name(), "url", project.getSecretKey(), 1, 1);
-        List<CommentResponse> responses = commentService.findAllCommentsByUrlAndProjectKeyUsingPagination(request)
+            new CommentReadRequestByPagination(SortOption.OTHER.name(), "url", project.getSecretKey(), 1, 1, null, false);
+        List<CommentResponse> responses = commentService.findAllCommentsByUrlAndProjectKeyUsingPagination(admin, request)
             .getComments();
         assertThat(responses).extracting("content")
             .isEqualTo(Collections.singletonList("content1"));
     }
 
+    @DisplayName("여러 URL의 댓글 수를 한 번에 조회한다.")
+    @Test
+    void countCommentsByUrls() {
+        commentRepository.save(Comment.builder()
+            .user(socialLoginUser)
+            .project(project)
+            .url("url")
+            .content("sub content")
+            .parent(comments.get(0))
+            .build());
+        commentRepository.increaseReplyCount(comments.get(0).getId());
+        CommentCountRequestInProject request = new CommentCountRequestInProject(project.getSecretKey(),
+            Arrays.asList("url", "url2", "url3", "url"));
+
+        List<CommentCountResponse> responses = commentService.countCommentsByUrls(request);
+
+        assertThat(responses).extracting("url").containsExactly("url", "url2", "url3");
+        assertThat(responses).extracting("rootCount").containsExactly(3L, 1L, 0L);
+        assertThat(responses).extracting("replyCount").containsExactly(1L, 0L, 0L);
+        assertThat(responses).extracting("count").containsExactly(4L, 1L, 0L);
+    }
+
+    @DisplayName("대댓글을 등록하거나 삭제하면 부모 댓글의 대댓글 수가 바뀐다.")
+    @Test
+    void save_and_delete_sub_comment_reply_count() {
+        CommentCreateRequest request = new CommentCreateRequest(null, null, comments.get(3).getId(),
+            project.getSecretKey(), "sub content", "url2");
+        Long subCommentId = commentService.save(socialLoginUser, request).getId();
+        CommentCountRequestInProject countRequest =
+            new CommentCountRequestInProject(project.getSecretKey(), Collections.singletonList("url2"));
+
+        assertThat(commentService.countCommentsByUrls(countRequest).get(0).getReplyCount()).isEqualTo(1L);
+
+        commentService.delete(subCommentId, socialLoginUser, new CommentDeleteRequest(null, null));
+
+        assertThat(commentService.countCommentsByUrls(countRequest).get(0).getReplyCount()).isZero();
+    }
+
+    @DisplayName("같은 댓글에 달린 답글 알람은 하나로 묶고, 같은 유저가 다시 답글을 달아도 답글 수를 늘린다.")
+    @Test
+    void save_sub_comment_aggregate() {
+        Long parentId = comments.get(1).getId();
+        commentService.save(admin, new CommentCreateRequest(null, null, parentId, project.getSecretKey(), "1", "url"));
+        commentService.save(guestUser, new CommentCreateRequest(guestUser.getNickName(), guestUser.getPassword(),
+            parentId, project.getSecretKey(), "2", "url"));
+        commentService.save(admin, new CommentCreateRequest(null, null, parentId, project.getSecretKey(), "3", "url"));
+
+        List<CommentAlarm> commentAlarms = commentAlarmRepository.findAll();
+
+        assertThat(commentAlarms).hasSize(1);
+        assertThat(commentAlarms.get(0).getSender()).isEqualTo(admin);
+        assertThat(commentAlarms.get(0).getComment().getContent()).isEqualTo("3");
+        assertThat(commentAlarms.get(0).getSenderCount()).isEqualTo(3);
+        assertThat(commentAlarms.get(0).getRecentSenderIds()).containsExactly(admin.getId(), guestUser.getId());
+    }
+
+    @DisplayName("대댓글을 커서로 조회하면 부모 댓글 작성자나 관리자가 아닌 유저에게는 비밀 대댓글을 가린다.")
+    @Test
+    void findSubCommentsUsingCursor_secret_sub_comment() {
+        commentRepository.save(Comment.builder()
+            .user(socialLoginUser)
+            .project(project)
+            .url("url2")
+            .content("secret sub content")
+            .parent(comments.get(3))
+            .secret(true)
+            .build());
+        SubCommentReadRequestByCursor request = new SubCommentReadRequestByCursor(null, 10, null);
+
+        SubCommentCursorResponses adminResponses =
+            commentService.findSubCommentsUsingCursor(comments.get(3).getId(), admin, request);
+        SubCommentCursorResponses guestResponses =
+            commentService.findSubCommentsUsingCursor(comments.get(3).getId(), guestUser, request);
+
+        assertThat(adminResponses.getSubComments()).extracting("readable").containsExactly(true);
+        assertThat(guestResponses.getSubComments()).extracting("readable").containsExactly(false);
+        assertThat(guestResponses.getNextCursor()).isNull();
+    }
+
+    @DisplayName("댓글에 좋아요를 누른 유저를 페이지 단위로 조회한다.")
+    @Test
+    void findLikingUsers() {
+        CommentLikeResponses responses = commentService.findLikingUsers(comments.get(1).getId(),
+            new CommentLikeReadRequestByPagination(1, 10));
+
+        assertThat(responses.getTotalLike()).isEqualTo(1L);
+        assertThat(responses.getTotalPage()).isEqualTo(1);
+        assertThat(responses.getLikingUsers()).extracting("id").containsExactly(socialLoginUser.getId());
+    }
+
+    @DisplayName("존재하지 않는 댓글의 좋아요 유저를 조회하면 에러를 던진다.")
+    @Test
+    void findLikingUsers_exception() {
+        CommentLikeReadRequestByPagination request = new CommentLikeReadRequestByPagination(1, 10);
+
+        assertThatThrownBy(() -> commentService.findLikingUsers(Long.MAX_VALUE, request))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessage("해당하는 댓글이 없습니다.");
+    }
+
+    @DisplayName("한 번에 조회할 수 있는 URL의 개수를 초과하면 에러를 던진다.")
+    @Test
+    void countCommentsByUrls_exception() {
+        List<String> urls = IntStream.rangeClosed(0, 100)
+            .mapToObj(i -> "url" + i)
+            .collect(Collectors.toList());
+        CommentCountRequestInProject request = new CommentCountRequestInProject(project.getSecretKey(), urls);
+
+        assertThatThrownBy(() -> commentService.countCommentsByUrls(request))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("한 번에 조회할 수 있는 URL의 개수를 초과하였습니다.");
+    }
+
+    @DisplayName("커서를 이용해 댓글을 최신순으로 조회한다.")
+    @Test
+    void findAllCommentsByUrlAndProjectKeyUsingCursor_latest() {
+        CommentReadRequestByCursor firstRequest =
+            new CommentReadRequestByCursor(SortOption.LATEST.name(), "url", project.getSecretKey(), null, 2, false, null);
+        CommentCursorResponses firstResponses = commentService.findAllCommentsByUrlAndProjectKeyUsingCursor(admin, firstRequest);
+
+        CommentReadRequestByCursor nextRequest = new CommentReadRequestByCursor(SortOption.LATEST.name(), "url",
+            project.getSecretKey(), firstResponses.getNextCursor(), 2, false, null);
+        CommentCursorResponses nextResponses = commentService.findAllCommentsByUrlAndProjectKeyUsingCursor(admin, nextRequest);
+
+        assertThat(firstResponses.getComments()).extracting("content").isEqualTo(Arrays.asList("content3", "content2"));
+        assertThat(firstResponses.getTotalComment()).isNull();
+        assertThat(nextResponses.getComments()).extracting("content").isEqualTo(Collections.singletonList("content1"));
+        assertThat(nextResponses.getNextCursor()).isNull();
+    }
+
+    @DisplayName("커서를 이용해 댓글을 좋아요순으로 조회한다.")
+    @Test
+    void findAllCommentsByUrlAndProjectKeyUsingCursor_like() {
+        CommentReadRequestByCursor firstRequest =
+            new CommentReadRequestByCursor(SortOption.LIKE.name(), "url", project.getSecretKey(), null, 1, true, null);
+        CommentCursorResponses firstResponses = commentService.findAllCommentsByUrlAndProjectKeyUsingCursor(admin, firstRequest);
+
+        CommentReadRequestByCursor nextRequest = new CommentReadRequestByCursor(SortOption.LIKE.name(), "url",
+            project.getSecretKey(), firstResponses.getNextCursor(), 2, false, null);
+        CommentCursorResponses nextResponses = commentService.findAllCommentsByUrlAndProjectKeyUsingCursor(admin, nextRequest);
+
+        assertThat(firstResponses.getComments()).extracting("content").isEqualTo(Collections.singletonList("content2"));
+        assertThat(firstResponses.getTotalComment()).isEqualTo(3L);
+        assertThat(nextResponses.getComments()).extracting("content").isEqualTo(Arrays.asList("content1", "content3"));
+    }
+
+    @DisplayName("커서를 이용해 댓글을 과거순으로 조회한다.")
+    @Test
+    void findAllCommentsByUrlAndProjectKeyUsingCursor_oldest() {
+        CommentReadRequestByCursor firstRequest =
+            new CommentReadRequestByCursor(SortOption.OTHER.name(), "url", project.getSecretKey(), "", 2, false, null);
+        CommentCursorResponses firstResponses = commentService.findAllCommentsByUrlAndProjectKeyUsingCursor(admin, firstRequest);
+
+        CommentReadRequestByCursor nextRequest = new CommentReadRequestByCursor(SortOption.OTHER.name(), "url",
+            project.getSecretKey(), firstResponses.getNextCursor(), 2, false, null);
+        CommentCursorResponses nextResponses = commentService.findAllCommentsByUrlAndProjectKeyUsingCursor(admin, nextRequest);
+
+        assertThat(firstResponses.getComments()).extracting("content").isEqualTo(Arrays.asList("content1", "content2"));
+        assertThat(nextResponses.getComments()).extracting("content").isEqualTo(Collections.singletonList("content3"));
+    }
+
+    @DisplayName("유효하지 않은 커서로 조회하면 에러를 던진다.")
+    @Test
+    void findAllCommentsByUrlAndProjectKeyUsingCursor_exception() {
+        CommentReadRequestByCursor request =
+            new CommentReadRequestByCursor(SortOption.LATEST.name(), "url", project.getSecretKey(), "invalid", 2, false, null);
+
+        assertThatThrownBy(() -> commentService.findAllCommentsByUrlAndProjectKeyUsingCursor(admin, request))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("유효하지 않은 커서입니다.");
+    }
+
+    @DisplayName("커서로 댓글을 조회하면 작성자나 관리자가 아닌 유저에게는 비밀 댓글을 가린다.")
+    @Test
+    void findAllCommentsByUrlAndProjectKeyUsingCursor_secret_comment() {
+        CommentReadRequestByCursor request = new CommentReadRequestByCursor(SortOption.LATEST.name(), "url",
+            project.getSecretKey(), null, 3, false, null);
+
+        CommentCursorResponses adminResponses =
+            commentService.findAllCommentsByUrlAndProjectKeyUsingCursor(admin, request);
+        CommentCursorResponses writerResponses =
+            commentService.findAllCommentsByUrlAndProjectKeyUsingCursor(socialLoginUser, request);
+        CommentCursorResponses guestResponses =
+            commentService.findAllCommentsByUrlAndProjectKeyUsingCursor(guestUser, request);
+
+        assertThat(adminResponses.getComments()).extracting("readable").containsExactly(true, true, true);
+        assertThat(writerResponses.getComments()).extracting("readable").containsExactly(true, true, true);
+        assertThat(guestResponses.getComments()).extracting("readable").containsExactly(false, true, false);
+    }
+
     @DisplayName("특정 프로젝트에 해당하고, 시작 날짜와 종료 날짜 사이에 있는 임의의 페이지의 댓글을 최신순으로 조회한다.")
     @Test
     void findAllCommentsByProjectKeyUsingPaginationAndDateBetween_latest() {
@@ -518,6 +731,70 @@ class CommentServiceTest extends SpringContainerTest {
         assertThat(commentAlarm.getCommentAlarmType()).isEqualTo(CommentAlarmType.CREATE_COMMENT_LIKE);
     }
 
+    @DisplayName("좋아요를 누르면 다른 요청의 좋아요까지 반영된 좋아요 수를 스레드 구독자에게 보낸다.")
+    @Test
+    void click_like_like_count_event() {
+        commentRepository.increaseLikeCount(comments.get(0).getId());
+
+        commentService.toggleLike(comments.get(0).getId(), guestUser);
+
+        ArgumentCaptor<CommentThreadEvent> event = ArgumentCaptor.forClass(CommentThreadEvent.class);
+        verify(commentThreadEventPublisher).publishAfterCommit(any(), any(), event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(CommentThreadEventType.LIKE_COUNT);
+        assertThat(event.getValue().getLikeCount()).isEqualTo(2);
+    }
+
+    @DisplayName("여러 유저가 같은 댓글에 좋아요를 누르면 알람 하나로 묶는다.")
+    @Test
+    void click_like_aggregate() {
+        commentService.toggleLike(comments.get(0).getId(), guestUser);
+        commentService.toggleLike(comments.get(0).getId(), admin);
+
+        List<CommentAlarm> commentAlarms = commentAlarmRepository.findAll();
+
+        assertThat(commentAlarms).hasSize(1);
+        assertThat(commentAlarms.get(0).getSender()).isEqualTo(admin);
+        assertThat(commentAlarms.get(0).getSenderCount()).isEqualTo(2);
+        assertThat(commentAlarms.get(0).getRecentSenderIds()).containsExactly(admin.getId(), guestUser.getId());
+    }
+
+    @DisplayName("같은 유저가 좋아요를 다시 누르면 묶인 알람의 송신자 수를 늘리지 않는다.")
+    @Test
+    void click_like_aggregate_same_sender() {
+        commentService.toggleLike(comments.get(0).getId(), guestUser);
+        commentService.toggleLike(comments.get(0).getId(), guestUser);
+        commentService.toggleLike(comments.get(0).getId(), guestUser);
+
+        List<CommentAlarm> commentAlarms = commentAlarmRepository.findAll();
+
+        assertThat(commentAlarms).hasSize(1);
+        assertThat(commentAlarms.get(0).getSenderCount()).isEqualTo(1);
+    }
+
+    @DisplayName("좋아요를 취소한 유저는 묶인 알람의 송신자 수에서 빠진다.")
+    @Test
+    void click_like_aggregate_after_cancel() {
+        commentService.toggleLike(comments.get(0).getId(), guestUser);
+        commentService.toggleLike(comments.get(0).getId(), guestUser);
+        commentService.toggleLike(comments.get(0).getId(), admin);
+
+        List<CommentAlarm> commentAlarms = commentAlarmRepository.findAll();
+
+        assertThat(commentAlarms).hasSize(1);
+        assertThat(commentAlarms.get(0).getSenderCount()).isEqualTo(1);
+    }
+
+    @DisplayName("받는 사람이 알람을 읽은 뒤에 누른 좋아요는 새 알람으로 만든다.")
+    @Test
+    void click_like_after_read() {
+        commentService.toggleLike(comments.get(0).getId(), guestUser);
+        commentAlarmUnreadCounter.markRead(socialLoginUser.getId());
+
+        commentService.toggleLike(comments.get(0).getId(), admin);
+
+        assertThat(commentAlarmRepository.findAll()).hasSize(2);
+    }
+
     @Transactional
     @DisplayName("이미 좋아요가 되어 있으면 토글한다.")
     @Test
@@ -546,7 +823,7 @@ class CommentServiceTest extends SpringContainerTest {
     @DisplayName("비로그인 사용자가 볼 때, 비밀 댓글의 본문 내용은 확인이 불가능하다.")
     @Test
     void findAllCommentsByUrlAndProjectKeyConsiderSecretComment_guest_user() {
-        CommentReadRequest request = new CommentReadRequest("latest", "url", project.getSecretKey());
+        CommentReadRequest request = new CommentReadRequest("latest", "url", project.getSecretKey(), null, false);
         CommentResponses responses = commentService
             .findAllCommentsByUrlAndProjectKey(guestUser, request);
 
@@ -560,7 +837,7 @@ class CommentServiceTest extends SpringContainerTest {
     @DisplayName("로그인 사용자가 댓글을 볼 때, 자신이 쓴 댓글을 제외한 모든 비밀 댓글의 본문 내용은 확인이 불가능하다.")
     @Test
     void findAllCommentsByUrlAndProjectKeyConsiderSecretComment_login_user() {
-        CommentReadRequest request = new CommentReadRequest("latest", "url", project.getSecretKey());
+        CommentReadRequest request = new CommentReadRequest("latest", "url", project.getSecretKey(), null, false);
         CommentResponses responses = commentService
             .findAllCommentsByUrlAndProjectKey(socialLoginUser, request);
 
@@ -578,7 +855,7 @@ class CommentServiceTest extends SpringContainerTest {
     @DisplayName("관리자는 모든 댓글을 열람할 수 있다.")
     @Test
     void findAllCommentsByUrlAndProjectKeyConsiderSecretComment_admin() {
-        CommentReadRequest request = new CommentReadRequest("latest", "url", project.getSecretKey());
+        CommentReadRequest request = new CommentReadRequest("latest", "url", project.getSecretKey(), null, false);
         CommentResponses responses = commentService
             .findAllCommentsByUrlAndProjectKey(socialLoginUser, request);
 
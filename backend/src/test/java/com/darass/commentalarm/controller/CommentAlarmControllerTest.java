@@ -130,14 +130,12 @@ class CommentAlarmControllerTest extends MockSpringContainerTest {
                     fieldWithPath("[].sender.nickName").type(JsonFieldType.STRING).description("알람 송신자 유저 닉네임"),
                     fieldWithPath("[].sender.type").type(JsonFieldType.STRING).description("알람 송신자 유저 타입"),
                     fieldWithPath("[].sender.profileImageUrl").type(JsonFieldType.STRING).description("알람 송신자 유저 프로필 이미지 링크"),
-                    fieldWithPath("[].sender.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("알람 송신자 유저 최근 알람 수신 여부"),
                     fieldWithPath("[].sender.createdDate").optional().type(JsonFieldType.STRING).description("알람 송신자 유저 생성일"),
                     fieldWithPath("[].sender.modifiedDate").optional().type(JsonFieldType.STRING).description("알람 송신자 유저 수정일"),
                     fieldWithPath("[].receiver.id").type(JsonFieldType.NUMBER).description("알람 수신자 유저 아이디"),
                     fieldWithPath("[].receiver.nickName").type(JsonFieldType.STRING).description("알람 수신자 유저 닉네임"),
                     fieldWithPath("[].receiver.type").type(JsonFieldType.STRING).description("알람 수신자 유저 타입"),
                     fieldWithPath("[].receiver.profileImageUrl").type(JsonFieldType.STRING).description("알람 수신자 유저 프로필 이미지 링크"),
-                    fieldWithPath("[].receiver.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("알람 수신자 유저 최근 알람 수신 여부"),
                     fieldWithPath("[].receiver.createdDate").optional().type(JsonFieldType.STRING).description("알람 수신자 유저 생성일"),
                     fieldWithPath("[].receiver.modifiedDate").optional().type(JsonFieldType.STRING).description("알람 수신자 유저 수정일"),
                     fieldWithPath("[].comment.id").optional().type(JsonFieldType.NUMBER).description("알람에 해당하는 댓글 아이디"),
@@ -151,12 +149,14 @@ class CommentAlarmControllerTest extends MockSpringContainerTest {
                     fieldWithPath("[].comment.user.nickName").type(JsonFieldType.STRING).description("알람에 해당하는 댓글 작성한 유저 닉네임"),
                     fieldWithPath("[].comment.user.type").type(JsonFieldType.STRING).description("알람에 해당하는 댓글 작성한 유저 타입"),
                     fieldWithPath("[].comment.user.profileImageUrl").type(JsonFieldType.STRING).description("알람에 해당하는 댓글 작성한 유저 프로필 이미지"),
-                    fieldWithPath("[].comment.user.hasRecentAlarm").type(JsonFieldType.BOOLEAN).description("알람에 해당하는 댓글 작성한 유저 최근 알람 수신 여부"),
                     fieldWithPath("[].comment.user.createdDate").optional().type(JsonFieldType.STRING).description("알람에 해당하는 댓글 작성한 유저 생성 시점"),
                     fieldWithPath("[].comment.user.modifiedDate").optional().type(JsonFieldType.STRING).description("알람에 해당하는 댓글 작성한 유저 수정 시점"),
                     fieldWithPath("[].comment.subComments").optional().type(JsonFieldType.ARRAY).description("알람에 해당하는 댓글 대댓글 정보"),
                     fieldWithPath("[].comment.secret").type(JsonFieldType.BOOLEAN).description("댓글 공개/비공개 여부"),
-                    fieldWithPath("[].comment.readable").type(JsonFieldType.BOOLEAN).description("댓글 조회 가능 여부")
+                    fieldWithPath("[].comment.readable").type(JsonFieldType.BOOLEAN).description("댓글 조회 가능 여부"),
+                    fieldWithPath("[].senderCount").type(JsonFieldType.NUMBER)
+                        .description("좋아요 알람은 좋아요를 누른 사람 수, 답글 알람은 묶인 답글 수"),
+                    fieldWithPath("[].recentSenderIds").optional().type(JsonFieldType.ARRAY).description("최근 송신자 아이디 목록")
                 ))
             );
     }
@@ -0,0 +1,154 @@
+package com.darass.commentalarm.domain;
+
+import com.darass.comment.domain.Comment;
+import com.darass.commentalarm.dto.CommentAlarmMessage;
+import com.darass.commentalarm.infrastructure.CommentAlarmSseHub;
+import com.darass.common.StompSessionRegistry;
+import com.darass.user.domain.SocialLoginUser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+// 알람 한 건을 보낼 때 드는 CPU 시간과 할당량을, 목적지마다 변환하던 이전 방식과 비교한다.
+// 기본 test 태스크에서는 제외되며 ./gradlew benchmark로 실행한다.
+@Tag("benchmark")
+@DisplayName("CommentAlarmMachine 마이크로 벤치마크")
+class CommentAlarmMachineBenchmarkTest {
+
+    private static final int WARM_UP_COUNT = 5_000;
+    private static final int MEASURE_COUNT = 10_000;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private ObjectMapper objectMapper;
+    private MessageChannel discardingChannel;
+    private CommentAlarmMessage commentAlarmMessage;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        discardingChannel = new MessageChannel() {
+            @Override
+            public boolean send(Message<?> message, long timeout) {
+                return true;
+            }
+        };
+
+        SocialLoginUser sender = SocialLoginUser.builder()
+            .id(1L)
+            .nickName("송신자")
+            .profileImageUrl("https://profile-image-url")
+            .build();
+        SocialLoginUser receiver = SocialLoginUser.builder()
+            .id(2L)
+            .nickName("수신자")
+            .build();
+        Comment comment = Comment.builder()
+            .id(3L)
+            .url("https://blog.url/post")
+            .content("댓글 내용이 알람 미리보기로 들어갑니다. ".repeat(5))
+            .user(sender)
+            .build();
+        commentAlarmMessage = CommentAlarmMessage.of(CommentAlarm.builder()
+            .id(4L)
+            .commentAlarmType(CommentAlarmType.CREATE_SUB_COMMENT)
+            .sender(sender)
+            .receiver(receiver)
+            .comment(comment)
+            .build());
+    }
+
+    @DisplayName("outbox에 한 번 직렬화해 둔 payload로 보낼 때와 목적지마다 변환할 때의 알람당 비용을 기록한다.")
+    @Test
+    void sendPayload(TestReporter testReporter) {
+        Measurement previousMeasurement = measure(previousSend());
+        Measurement currentMeasurement = measure(currentSend());
+
+        testReporter.publishEntry("previous.cpu-nanos", String.valueOf(previousMeasurement.cpuNanos));
+        testReporter.publishEntry("previous.allocated-bytes", String.valueOf(previousMeasurement.allocatedBytes));
+        testReporter.publishEntry("current.cpu-nanos", String.valueOf(currentMeasurement.cpuNanos));
+        testReporter.publishEntry("current.allocated-bytes", String.valueOf(currentMeasurement.allocatedBytes));
+    }
+
+    // 이전 방식: 목적지마다 convertAndSend가 같은 객체를 다시 JSON으로 변환한다.
+    private Runnable previousSend() {
+        SimpMessagingTemplate template = new SimpMessagingTemplate(discardingChannel);
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        template.setMessageConverter(converter);
+        return () -> {
+            template.convertAndSend(CommentAlarmMachine.QUEUE_MAIN + 2L, commentAlarmMessage);
+            template.convertAndSend(CommentAlarmMachine.QUEUE_MODULE + 2L, commentAlarmMessage);
+        };
+    }
+
+    // 현재 방식: 알람을 outbox에 저장할 때 한 번 직렬화하고, 전송할 때는 그 payload를 그대로 보낸다.
+    private Runnable currentSend() {
+        StompSessionRegistry registry = new StompSessionRegistry(new SimpleMeterRegistry());
+        subscribe(registry, CommentAlarmMachine.QUEUE_MAIN + 2L);
+        subscribe(registry, CommentAlarmMachine.QUEUE_MODULE + 2L);
+        CommentAlarmMachine commentAlarmMachine =
+            new CommentAlarmMachine(new SimpMessagingTemplate(discardingChannel), registry,
+                new CommentAlarmSseHub(objectMapper, new SimpleMeterRegistry(), 60_000, 32, 0));
+        return () -> commentAlarmMachine.sendPayload(2L, toPayload());
+    }
+
+    private byte[] toPayload() {
+        try {
+            return objectMapper.writeValueAsBytes(commentAlarmMessage);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void subscribe(StompSessionRegistry registry, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(destination);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(destination);
+        registry.subscribe(
+            new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+    }
+
+    private Measurement measure(Runnable send) {
+        for (int i = 0; i < WARM_UP_COUNT; i++) {
+            send.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long startCpuNanos = threadMXBean.getCurrentThreadCpuTime();
+        long startAllocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURE_COUNT; i++) {
+            send.run();
+        }
+        long cpuNanos = threadMXBean.getCurrentThreadCpuTime() - startCpuNanos;
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - startAllocatedBytes;
+        return new Measurement(cpuNanos / MEASURE_COUNT, allocatedBytes / MEASURE_COUNT);
+    }
+
+    private static class Measurement {
+
+        private final long cpuNanos;
+        private final long allocatedBytes;
+
+        private Measurement(long cpuNanos, long allocatedBytes) {
+            this.cpuNanos = cpuNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.darass.commentalarm.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.darass.SpringContainerTest;
+import com.darass.comment.domain.Comment;
+import com.darass.commentalarm.domain.CommentAlarm;
+import com.darass.commentalarm.domain.CommentAlarmMachine;
+import com.darass.commentalarm.domain.CommentAlarmOutbox;
+import com.darass.commentalarm.domain.CommentAlarmType;
+import com.darass.commentalarm.repository.CommentAlarmDeadLetterRepository;
+import com.darass.commentalarm.repository.CommentAlarmOutboxRepository;
+import com.darass.commentalarm.repository.CommentAlarmRepository;
+import com.darass.user.domain.SocialLoginUser;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.function.BooleanSupplier;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("CommentAlarmDispatcher 클래스")
+class CommentAlarmDispatcherTest extends SpringContainerTest {
+
+    @Autowired
+    private CommentAlarmDispatcher commentAlarmDispatcher;
+
+    @Autowired
+    private CommentAlarmRepository commentAlarmRepository;
+
+    @Autowired
+    private CommentAlarmOutboxRepository commentAlarmOutboxRepository;
+
+    @Autowired
+    private CommentAlarmDeadLetterRepository commentAlarmDeadLetterRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @MockBean
+    private CommentAlarmMachine commentAlarmMachine;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @DisplayName("커밋된 알람은 별도 스레드에서 전송하고 outbox에서 지운다.")
+    @Test
+    void enqueue() throws InterruptedException {
+        transactionTemplate.executeWithoutResult(status -> commentAlarmDispatcher.enqueue(saveCommentAlarm()));
+
+        verify(commentAlarmMachine, timeout(1000)).sendPayload(any(), any());
+        waitUntil(() -> commentAlarmOutboxRepository.count() == 0);
+        assertThat(commentAlarmOutboxRepository.count()).isZero();
+    }
+
+    @DisplayName("롤백된 트랜잭션의 알람은 전송하지 않는다.")
+    @Test
+    void enqueue_rollback() {
+        transactionTemplate.executeWithoutResult(status -> {
+            commentAlarmDispatcher.enqueue(saveCommentAlarm());
+            status.setRollbackOnly();
+        });
+
+        verify(commentAlarmMachine, after(300).never()).sendPayload(any(), any());
+        assertThat(commentAlarmOutboxRepository.count()).isZero();
+    }
+
+    @DisplayName("전송에 실패한 알람은 outbox에 남기고 실패 횟수를 늘린다.")
+    @Test
+    void enqueue_fail() throws InterruptedException {
+        doThrow(new IllegalStateException()).when(commentAlarmMachine).sendPayload(any(), any());
+
+        transactionTemplate.executeWithoutResult(status -> commentAlarmDispatcher.enqueue(saveCommentAlarm()));
+
+        waitUntil(() -> commentAlarmOutboxRepository.findAll().get(0).getAttemptCount() > 0);
+        assertThat(commentAlarmOutboxRepository.findAll()).hasSize(1)
+            .allMatch(outbox -> outbox.getAttemptCount() > 0);
+    }
+
+    @DisplayName("최대 시도 횟수까지 전송하지 못한 알람은 dead letter로 옮기고 outbox에서 지운다.")
+    @Test
+    void dispatch_dead_letter() throws InterruptedException {
+        doThrow(new IllegalStateException()).when(commentAlarmMachine).sendPayload(any(), any());
+        transactionTemplate.executeWithoutResult(status -> {
+            commentAlarmOutboxRepository.save(new CommentAlarmOutbox(saveCommentAlarm(), "{}"));
+            entityManager.createQuery("update CommentAlarmOutbox cao set cao.attemptCount = 4").executeUpdate();
+        });
+
+        commentAlarmDispatcher.dispatchRemaining();
+
+        waitUntil(() -> commentAlarmDeadLetterRepository.count() == 1);
+        assertThat(commentAlarmOutboxRepository.count()).isZero();
+        assertThat(commentAlarmDeadLetterRepository.findAll()).hasSize(1)
+            .allMatch(deadLetter -> deadLetter.getAttemptCount() == 5 && deadLetter.getPayload().equals("{}"));
+    }
+
+    @DisplayName("묶인 알람의 갱신은 바로 보내지 않고 outbox 하나에 모은다.")
+    @Test
+    void enqueueAggregated() {
+        CommentAlarm commentAlarm = transactionTemplate.execute(status -> saveCommentAlarm());
+
+        transactionTemplate.executeWithoutResult(status -> commentAlarmDispatcher.enqueueAggregated(commentAlarm));
+        transactionTemplate.executeWithoutResult(status -> commentAlarmDispatcher.enqueueAggregated(commentAlarm));
+
+        verify(commentAlarmMachine, after(300).never()).sendPayload(any(), any());
+        assertThat(commentAlarmOutboxRepository.count()).isEqualTo(1);
+    }
+
+    @DisplayName("재시작 전에 쌓인 묶인 알람은 전송 시각이 되면 보낸다.")
+    @Test
+    void dispatchRemaining_aggregated() {
+        transactionTemplate.executeWithoutResult(status -> commentAlarmOutboxRepository.save(
+            new CommentAlarmOutbox(saveCommentAlarm(), "{}", LocalDateTime.now().plus(300, ChronoUnit.MILLIS))));
+
+        commentAlarmDispatcher.dispatchRemaining();
+
+        verify(commentAlarmMachine, after(100).never()).sendPayload(any(), any());
+        verify(commentAlarmMachine, timeout(2000)).sendPayload(any(), any());
+    }
+
+    private CommentAlarm saveCommentAlarm() {
+        SocialLoginUser sender = SocialLoginUser.builder()
+            .nickName("송신자")
+            .build();
+        SocialLoginUser receiver = SocialLoginUser.builder()
+            .nickName("수신자")
+            .build();
+        Comment comment = Comment.builder()
+            .user(sender)
+            .content("content")
+            .build();
+        return commentAlarmRepository.save(CommentAlarm.builder()
+            .commentAlarmType(CommentAlarmType.CREATE_COMMENT)
+            .sender(sender)
+            .receiver(receiver)
+            .comment(comment)
+            .build());
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 20 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.darass.commentalarm.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.darass.SpringContainerTest;
+import com.darass.comment.domain.Comment;
+import com.darass.commentalarm.domain.CommentAlarm;
+import com.darass.commentalarm.domain.CommentAlarmType;
+import com.darass.commentalarm.repository.CommentAlarmRepository;
+import com.darass.user.domain.SocialLoginUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("CommentAlarmPurger 클래스")
+class CommentAlarmPurgerTest extends SpringContainerTest {
+
+    @Autowired
+    private CommentAlarmPurger commentAlarmPurger;
+
+    @Autowired
+    private CommentAlarmRepository commentAlarmRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @DisplayName("알람 종류별 보관 기간이 지난 알람만 지운다.")
+    @Test
+    void purge() {
+        Long expiredLikeAlarmId = saveCommentAlarm(CommentAlarmType.CREATE_COMMENT_LIKE, 40);
+        Long likeAlarmId = saveCommentAlarm(CommentAlarmType.CREATE_COMMENT_LIKE, 10);
+        Long commentAlarmId = saveCommentAlarm(CommentAlarmType.CREATE_COMMENT, 40);
+        double purgedRows = meterRegistry.counter("comment.alarm.purge.rows", "type", "CREATE_COMMENT_LIKE").count();
+
+        long purgedCount = commentAlarmPurger.purge();
+
+        assertThat(purgedCount).isEqualTo(1);
+        assertThat(commentAlarmRepository.existsById(expiredLikeAlarmId)).isFalse();
+        assertThat(commentAlarmRepository.existsById(likeAlarmId)).isTrue();
+        assertThat(commentAlarmRepository.existsById(commentAlarmId)).isTrue();
+        assertThat(meterRegistry.counter("comment.alarm.purge.rows", "type", "CREATE_COMMENT_LIKE").count())
+            .isEqualTo(purgedRows + 1);
+        assertThat(meterRegistry.timer("comment.alarm.purge.batch.latency", "type", "CREATE_COMMENT_LIKE").count())
+            .isPositive();
+    }
+
+    private Long saveCommentAlarm(CommentAlarmType commentAlarmType, int daysAgo) {
+        return transactionTemplate.execute(status -> {
+            SocialLoginUser sender = SocialLoginUser.builder()
+                .nickName("송신자")
+                .build();
+            SocialLoginUser receiver = SocialLoginUser.builder()
+                .nickName("수신자")
+                .build();
+            Comment comment = Comment.builder()
+                .user(receiver)
+                .content("content")
+                .build();
+            CommentAlarm commentAlarm = commentAlarmRepository.save(CommentAlarm.builder()
+                .commentAlarmType(commentAlarmType)
+                .sender(sender)
+                .receiver(receiver)
+                .comment(comment)
+                .build());
+            commentAlarm.updateCreateDate(LocalDateTime.now().minusDays(daysAgo));
+            return commentAlarm.getId();
+        });
+    }
+}
@@ -0,0 +1,131 @@
+package com.darass.commentalarm.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.darass.SpringContainerTest;
+import com.darass.comment.domain.Comment;
+import com.darass.commentalarm.domain.CommentAlarm;
+import com.darass.commentalarm.domain.CommentAlarmType;
+import com.darass.commentalarm.domain.CommentAlarmUnreadState;
+import com.darass.commentalarm.repository.CommentAlarmRepository;
+import com.darass.commentalarm.repository.CommentAlarmUnreadStateRepository;
+import com.darass.user.domain.SocialLoginUser;
+import com.darass.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("CommentAlarmUnreadCounter 클래스")
+class CommentAlarmUnreadCounterTest extends SpringContainerTest {
+
+    @Autowired
+    private CommentAlarmUnreadCounter commentAlarmUnreadCounter;
+
+    @Autowired
+    private CommentAlarmUnreadStateRepository commentAlarmUnreadStateRepository;
+
+    @Autowired
+    private CommentAlarmRepository commentAlarmRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Long receiverId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        receiverId = userRepository.save(SocialLoginUser.builder()
+            .nickName("수신자")
+            .build()).getId();
+    }
+
+    @DisplayName("커밋된 알람 수를 모아 한 행에 한 번에 반영한다.")
+    @Test
+    void increase() {
+        transactionTemplate.executeWithoutResult(status -> {
+            commentAlarmUnreadCounter.increase(receiverId, 1L);
+            commentAlarmUnreadCounter.increase(receiverId, 2L);
+        });
+        transactionTemplate.executeWithoutResult(status -> commentAlarmUnreadCounter.increase(receiverId, 3L));
+
+        commentAlarmUnreadCounter.flush();
+
+        assertThat(commentAlarmUnreadStateRepository.findAll()).hasSize(1);
+        assertThat(commentAlarmUnreadStateRepository.findById(receiverId))
+            .map(CommentAlarmUnreadState::getUnreadCount)
+            .hasValue(3);
+        assertThat(commentAlarmUnreadCounter.findUnreadCount(receiverId)).isEqualTo(3);
+    }
+
+    @DisplayName("롤백된 트랜잭션의 알람은 세지 않는다.")
+    @Test
+    void increase_rollback() {
+        transactionTemplate.executeWithoutResult(status -> {
+            commentAlarmUnreadCounter.increase(receiverId, 1L);
+            status.setRollbackOnly();
+        });
+
+        assertThat(commentAlarmUnreadCounter.hasUnread(receiverId)).isFalse();
+    }
+
+    @DisplayName("읽음 처리하면 읽지 않은 알람 수를 0으로 만들고, 아직 반영하지 않은 이전 알람도 세지 않는다.")
+    @Test
+    void markRead() {
+        Long firstAlarmId = saveCommentAlarm();
+        transactionTemplate.executeWithoutResult(status ->
+            commentAlarmUnreadCounter.increase(receiverId, firstAlarmId));
+        commentAlarmUnreadCounter.flush();
+        Long secondAlarmId = saveCommentAlarm();
+        transactionTemplate.executeWithoutResult(status ->
+            commentAlarmUnreadCounter.increase(receiverId, secondAlarmId));
+
+        transactionTemplate.executeWithoutResult(status -> commentAlarmUnreadCounter.markRead(receiverId));
+        commentAlarmUnreadCounter.flush();
+
+        assertThat(commentAlarmUnreadCounter.findUnreadCount(receiverId)).isZero();
+        assertThat(commentAlarmUnreadStateRepository.findAll()).hasSize(1);
+    }
+
+    @DisplayName("읽음 처리한 뒤에 온 알람은 다시 센다.")
+    @Test
+    void increase_after_markRead() {
+        saveCommentAlarm();
+        transactionTemplate.executeWithoutResult(status -> commentAlarmUnreadCounter.markRead(receiverId));
+        Long alarmId = saveCommentAlarm();
+
+        transactionTemplate.executeWithoutResult(status -> commentAlarmUnreadCounter.increase(receiverId, alarmId));
+        commentAlarmUnreadCounter.flush();
+
+        assertThat(commentAlarmUnreadCounter.findUnreadCount(receiverId)).isEqualTo(1);
+    }
+
+    private Long saveCommentAlarm() {
+        return transactionTemplate.execute(status -> {
+            SocialLoginUser receiver = userRepository.findById(receiverId)
+                .map(SocialLoginUser.class::cast)
+                .orElseThrow(IllegalStateException::new);
+            SocialLoginUser sender = SocialLoginUser.builder()
+                .nickName("송신자")
+                .build();
+            Comment comment = Comment.builder()
+                .user(receiver)
+                .content("content")
+                .build();
+            return commentAlarmRepository.save(CommentAlarm.builder()
+                .commentAlarmType(CommentAlarmType.CREATE_SUB_COMMENT)
+                .sender(sender)
+                .receiver(receiver)
+                .comment(comment)
+                .build()).getId();
+        });
+    }
+}
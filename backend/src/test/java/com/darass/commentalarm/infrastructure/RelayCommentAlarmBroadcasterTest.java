@@ -0,0 +1,127 @@
+package com.darass.commentalarm.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.darass.comment.domain.StubMessageChannel;
+import com.darass.commentalarm.domain.CommentAlarmMachine;
+import com.darass.common.StompSessionRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+// fanout exchange 대신 발행된 메시지를 모든 서버의 리스너로 바로 넘기는 브로커로 여러 서버 간 전달을 검증한다.
+@DisplayName("RelayCommentAlarmBroadcaster 클래스")
+class RelayCommentAlarmBroadcasterTest {
+
+    private static final byte[] PAYLOAD = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+    private final List<Node> nodes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        AmqpTemplate inProcessBroker = mock(AmqpTemplate.class);
+        doAnswer(invocation -> {
+            Message message = invocation.getArgument(2);
+            nodes.forEach(node -> node.broadcaster.receive(message));
+            return null;
+        }).when(inProcessBroker).send(anyString(), anyString(), any(Message.class));
+
+        nodes.add(new Node(inProcessBroker));
+        nodes.add(new Node(inProcessBroker));
+    }
+
+    @DisplayName("한 서버에서 발행한 알람을 다른 서버에 연결된 구독자가 받는다.")
+    @Test
+    void broadcast() {
+        nodes.get(1).subscribe("session1", "/queue/main1");
+        nodes.get(1).subscribe("session1", "/queue/module1");
+
+        nodes.get(0).broadcaster.broadcast(1L, PAYLOAD);
+
+        assertThat(nodes.get(0).channel.getMessages()).isEmpty();
+        assertThat(nodes.get(1).channel.getMessages()).hasSize(2)
+            .allMatch(message -> message.getPayload() == PAYLOAD);
+    }
+
+    @DisplayName("여러 서버에 나뉘어 연결된 구독자에게 어느 서버에서 발행한 알람이든 한 번씩 전달한다.")
+    @Test
+    void broadcast_to_subscribers_on_each_node() {
+        nodes.get(0).subscribe("session1", "/queue/main1");
+        nodes.get(1).subscribe("session2", "/queue/main2");
+
+        nodes.get(0).broadcaster.broadcast(2L, PAYLOAD);
+        nodes.get(1).broadcaster.broadcast(1L, PAYLOAD);
+        nodes.get(1).broadcaster.broadcast(3L, PAYLOAD);
+
+        assertThat(nodes.get(0).channel.getMessages()).hasSize(1)
+            .allMatch(message -> "/queue/main1".equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders())));
+        assertThat(nodes.get(1).channel.getMessages()).hasSize(1)
+            .allMatch(message -> "/queue/main2".equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders())));
+    }
+
+    @Tag("benchmark")
+    @DisplayName("여러 서버에 나뉘어 연결된 구독자에게 많은 알람을 빠짐없이 전달하고 처리량을 기록한다.")
+    @Test
+    void broadcast_throughput(TestReporter testReporter) {
+        int userCount = 100;
+        int alarmCount = 20_000;
+        for (long userId = 1; userId <= userCount; userId++) {
+            nodes.get((int) (userId % nodes.size())).subscribe("session" + userId, "/queue/main" + userId);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < alarmCount; i++) {
+            nodes.get(i % nodes.size()).broadcaster.broadcast((long) (i % userCount) + 1, PAYLOAD);
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        testReporter.publishEntry("elapsed-millis", String.valueOf(elapsedMillis));
+        testReporter.publishEntry("alarms-per-second", String.valueOf(alarmCount * 1000L / elapsedMillis));
+        int deliveredCount = nodes.stream()
+            .mapToInt(node -> node.channel.getMessages().size())
+            .sum();
+        assertThat(deliveredCount).isEqualTo(alarmCount);
+        assertThat(nodes.get(0).channel.getMessages()).hasSize(alarmCount / 2);
+    }
+
+    private static class Node {
+
+        private final StubMessageChannel channel = new StubMessageChannel();
+        private final StompSessionRegistry registry = new StompSessionRegistry(new SimpleMeterRegistry());
+        private final RelayCommentAlarmBroadcaster broadcaster;
+
+        private Node(AmqpTemplate amqpTemplate) {
+            CommentAlarmMachine commentAlarmMachine =
+                new CommentAlarmMachine(new SimpMessagingTemplate(channel), registry,
+                    new CommentAlarmSseHub(new ObjectMapper(), new SimpleMeterRegistry(), 60_000, 32, 0));
+            this.broadcaster = new RelayCommentAlarmBroadcaster(amqpTemplate, commentAlarmMachine, "comment-alarm");
+        }
+
+        private void subscribe(String sessionId, String destination) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId(destination);
+            accessor.setDestination(destination);
+            registry.subscribe(
+                new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+        }
+    }
+}
@@ -2,73 +2,90 @@ package com.darass.commentalarm.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.darass.QueryCounter;
 import com.darass.SpringContainerTest;
 import com.darass.comment.domain.Comment;
 import com.darass.commentalarm.domain.CommentAlarm;
 import com.darass.commentalarm.domain.CommentAlarmType;
+import com.darass.commentalarm.domain.CommentAlarmUnreadState;
+import com.darass.commentalarm.dto.CommentAlarmCursorResponses;
+import com.darass.commentalarm.dto.CommentAlarmMessage;
+import com.darass.commentalarm.dto.CommentAlarmReadRequestByCursor;
 import com.darass.commentalarm.dto.CommentAlarmResponse;
+import com.darass.commentalarm.dto.CommentAlarmUnreadCountResponse;
+import com.darass.commentalarm.infrastructure.CommentAlarmSseHub;
 import com.darass.commentalarm.repository.CommentAlarmRepository;
+import com.darass.commentalarm.repository.CommentAlarmUnreadStateRepository;
 import com.darass.user.domain.SocialLoginUser;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.stream.IntStream;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional
 @DisplayName("CommentAlarmService 클래스")
 class CommentAlarmServiceTest extends SpringContainerTest {
 
-    private static SocialLoginUser SENDER;
-    private static SocialLoginUser RECEIVER;
+    @Autowired
+    private CommentAlarmService commentAlarmService;
+    @Autowired
+    private CommentAlarmRepository commentAlarmRepository;
+    @Autowired
+    private CommentAlarmUnreadStateRepository commentAlarmUnreadStateRepository;
+    @Autowired
+    private QueryCounter queryCounter;
+    @PersistenceContext
+    private EntityManager entityManager;
+    private SocialLoginUser sender;
+    private SocialLoginUser receiver;
+    private Comment comment;
+    private Long firstAlarmId;
 
-    static {
-        SENDER = SocialLoginUser
+    @BeforeEach
+    void setUp() {
+        sender = SocialLoginUser
             .builder()
             .nickName("송신자")
             .build();
 
-        RECEIVER = SocialLoginUser
+        receiver = SocialLoginUser
             .builder()
             .nickName("수신자")
             .build();
-    }
 
-    @Autowired
-    private CommentAlarmService commentAlarmService;
-    @Autowired
-    private CommentAlarmRepository commentAlarmRepository;
-    private Comment comment;
-
-    @BeforeEach
-    void setUp() {
         comment = Comment.builder()
-            .user(SENDER)
+            .user(sender)
             .content("content")
             .build();
 
-        commentAlarmRepository.save(CommentAlarm.builder()
+        firstAlarmId = commentAlarmRepository.save(CommentAlarm.builder()
             .commentAlarmType(CommentAlarmType.CREATE_COMMENT)
-            .sender(SENDER)
-            .receiver(RECEIVER)
+            .sender(sender)
+            .receiver(receiver)
             .comment(comment)
-            .build());
+            .build()).getId();
 
         commentAlarmRepository.save(CommentAlarm.builder()
             .commentAlarmType(CommentAlarmType.CREATE_COMMENT)
-            .sender(SENDER)
-            .receiver(RECEIVER)
+            .sender(sender)
+            .receiver(receiver)
             .comment(comment)
             .build());
 
         commentAlarmRepository.save(CommentAlarm.builder()
             .commentAlarmType(CommentAlarmType.CREATE_COMMENT)
-            .sender(SENDER)
-            .receiver(RECEIVER)
+            .sender(sender)
+            .receiver(receiver)
             .comment(comment)
             .build());
     }
@@ -77,7 +94,7 @@ class CommentAlarmServiceTest extends SpringContainerTest {
     @Test
     void findAllBySenderAndCreatedDateBetween_success() {
         List<CommentAlarmResponse> commentAlarmResponses = commentAlarmService.findAllCreatedDateBetween(
-            RECEIVER,
+            receiver,
             LocalDate.of(2020, 1, 1).atTime(LocalTime.MIN),
             LocalDate.of(LocalDateTime.now().getYear() + 1, 1, 1).atTime(LocalTime.MAX)
         );
@@ -85,4 +102,98 @@ class CommentAlarmServiceTest extends SpringContainerTest {
         assertThat(commentAlarmResponses).hasSize(3);
     }
 
-}
\ No newline at end of file
+    @DisplayName("마지막으로 받은 알람 id를 보내면 그 이후의 알람을 오래된 것부터 다시 보낸다.")
+    @Test
+    void subscribe_resume_from_last_event_id() {
+        List<ServerSentEvent<String>> events = commentAlarmService.subscribe(receiver, firstAlarmId)
+            .filter(event -> CommentAlarmSseHub.EVENT_NAME.equals(event.event()))
+            .take(2)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        assertThat(events).extracting(ServerSentEvent::id)
+            .containsExactly(String.valueOf(firstAlarmId + 1), String.valueOf(firstAlarmId + 2));
+    }
+
+    @DisplayName("놓친 알람이 한 번에 보낼 수 있는 개수보다 많으면 오래된 것부터 보낸 뒤 연결을 닫는다.")
+    @Test
+    void subscribe_resume_over_max_missed_alarm_count() {
+        IntStream.range(0, 100).forEach(i -> commentAlarmRepository.save(CommentAlarm.builder()
+            .commentAlarmType(CommentAlarmType.CREATE_COMMENT)
+            .sender(sender)
+            .receiver(receiver)
+            .comment(comment)
+            .build()));
+
+        List<ServerSentEvent<String>> events = commentAlarmService.subscribe(receiver, firstAlarmId)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        assertThat(events).hasSize(100)
+            .allMatch(event -> CommentAlarmSseHub.EVENT_NAME.equals(event.event()));
+        assertThat(events.get(0).id()).isEqualTo(String.valueOf(firstAlarmId + 1));
+        assertThat(events.get(99).id()).isEqualTo(String.valueOf(firstAlarmId + 100));
+    }
+
+    @DisplayName("커서로 알람을 최신순으로 나눠 조회한다.")
+    @Test
+    void findAllUsingCursor() {
+        entityManager.flush();
+        entityManager.clear();
+
+        CommentAlarmCursorResponses firstPage = commentAlarmService.findAllUsingCursor(receiver,
+            new CommentAlarmReadRequestByCursor(null, 2));
+        CommentAlarmCursorResponses secondPage = commentAlarmService.findAllUsingCursor(receiver,
+            new CommentAlarmReadRequestByCursor(firstPage.getNextCursor(), 2));
+
+        assertThat(firstPage.getCommentAlarms()).extracting(CommentAlarmMessage::getId)
+            .containsExactly(firstAlarmId + 2, firstAlarmId + 1);
+        assertThat(secondPage.getCommentAlarms()).extracting(CommentAlarmMessage::getId)
+            .containsExactly(firstAlarmId);
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @DisplayName("알람 페이지 크기가 커져도 쿼리 수는 늘어나지 않는다.")
+    @Test
+    void findAllUsingCursor_query_count() {
+        for (int i = 0; i < 3; i++) {
+            SocialLoginUser otherSender = SocialLoginUser.builder()
+                .nickName("송신자" + i)
+                .build();
+            commentAlarmRepository.save(CommentAlarm.builder()
+                .commentAlarmType(CommentAlarmType.CREATE_COMMENT)
+                .sender(otherSender)
+                .receiver(receiver)
+                .comment(Comment.builder().user(otherSender).content("content" + i).build())
+                .build());
+        }
+
+        long smallPageQueryCount = queryCounter.count(() ->
+            commentAlarmService.findAllUsingCursor(receiver, new CommentAlarmReadRequestByCursor(null, 1)));
+        long largePageQueryCount = queryCounter.count(() ->
+            commentAlarmService.findAllUsingCursor(receiver, new CommentAlarmReadRequestByCursor(null, 6)));
+
+        assertThat(largePageQueryCount).isEqualTo(smallPageQueryCount);
+    }
+
+    @DisplayName("마지막으로 읽은 알람 이후에 생긴 알람 수를 센다.")
+    @Test
+    void countUnreadAlarms() {
+        CommentAlarmUnreadCountResponse afterFirst = commentAlarmService.countUnreadAlarms(receiver, firstAlarmId);
+
+        assertThat(afterFirst.getUnreadCount()).isEqualTo(2);
+        assertThat(afterFirst.isHasMore()).isFalse();
+    }
+
+    @DisplayName("마지막으로 읽은 알람을 보내지 않으면 저장된 읽지 않은 알람 수를 99개까지 돌려준다.")
+    @Test
+    void countUnreadAlarms_stored() {
+        commentAlarmUnreadStateRepository.save(new CommentAlarmUnreadState(receiver.getId(), 120, 0L));
+
+        CommentAlarmUnreadCountResponse unreadCount = commentAlarmService.countUnreadAlarms(receiver, null);
+
+        assertThat(unreadCount.getUnreadCount()).isEqualTo(99);
+        assertThat(unreadCount.isHasMore()).isTrue();
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.darass.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+@DisplayName("StompOutboundMonitor 클래스")
+class StompOutboundMonitorTest {
+
+    private static final String SESSION_ID = "session1";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @DisplayName("DROP 정책이면 전송이 오래 걸리고 있는 세션으로 가는 메시지를 버린다.")
+    @Test
+    void preSend_drop_slow_consumer() throws Exception {
+        StompOutboundMonitor stompOutboundMonitor = new StompOutboundMonitor(meterRegistry, SlowConsumerPolicy.DROP,
+            10);
+        CountDownLatch sendBlocked = new CountDownLatch(1);
+        CountDownLatch releaseSend = new CountDownLatch(1);
+        WebSocketSession session = connect(stompOutboundMonitor, sendBlocked, releaseSend);
+
+        CompletableFuture<Void> slowSend = CompletableFuture.runAsync(() -> {
+            try {
+                session.sendMessage(new TextMessage("message"));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        sendBlocked.await(1, TimeUnit.SECONDS);
+        Thread.sleep(50);
+
+        Message<?> result = stompOutboundMonitor.preSend(message(SimpMessageType.MESSAGE), null);
+        Message<?> heartbeat = stompOutboundMonitor.preSend(message(SimpMessageType.HEARTBEAT), null);
+        releaseSend.countDown();
+        slowSend.get(1, TimeUnit.SECONDS);
+
+        assertThat(result).isNull();
+        assertThat(heartbeat).isNotNull();
+        assertThat(meterRegistry.get("websocket.outbound.dropped").tag("reason", "slow-consumer").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("websocket.outbound.send.latency").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("TERMINATE 정책이면 느린 세션이어도 메시지를 버리지 않는다.")
+    @Test
+    void preSend_terminate_policy() throws Exception {
+        StompOutboundMonitor stompOutboundMonitor = new StompOutboundMonitor(meterRegistry,
+            SlowConsumerPolicy.TERMINATE, 10);
+        CountDownLatch sendBlocked = new CountDownLatch(1);
+        CountDownLatch releaseSend = new CountDownLatch(1);
+        WebSocketSession session = connect(stompOutboundMonitor, sendBlocked, releaseSend);
+
+        CompletableFuture<Void> slowSend = CompletableFuture.runAsync(() -> {
+            try {
+                session.sendMessage(new TextMessage("message"));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        sendBlocked.await(1, TimeUnit.SECONDS);
+        Thread.sleep(50);
+
+        Message<?> result = stompOutboundMonitor.preSend(message(SimpMessageType.MESSAGE), null);
+        releaseSend.countDown();
+        slowSend.get(1, TimeUnit.SECONDS);
+
+        assertThat(result).isNotNull();
+        assertThat(meterRegistry.get("websocket.outbound.dropped").tag("reason", "slow-consumer").counter().count())
+            .isZero();
+    }
+
+    @DisplayName("전송 스레드가 꺼내기 전까지 대기열 길이를 기록하고, 대기열에 넣지 못한 메시지는 버린 것으로 센다.")
+    @Test
+    void queueDepth() {
+        StompOutboundMonitor stompOutboundMonitor = new StompOutboundMonitor(meterRegistry, SlowConsumerPolicy.DROP,
+            1000);
+        Message<?> first = stompOutboundMonitor.preSend(message(SimpMessageType.MESSAGE), null);
+        Message<?> second = stompOutboundMonitor.preSend(message(SimpMessageType.MESSAGE), null);
+        assertThat(meterRegistry.get("websocket.outbound.queue.depth").gauge().value()).isEqualTo(2);
+
+        stompOutboundMonitor.beforeHandle(first, null, null);
+        stompOutboundMonitor.afterSendCompletion(second, null, false, new IllegalStateException());
+
+        assertThat(stompOutboundMonitor.getQueueDepth()).isZero();
+        assertThat(meterRegistry.get("websocket.outbound.dropped").tag("reason", "rejected").counter().count())
+            .isEqualTo(1);
+    }
+
+    private WebSocketSession connect(StompOutboundMonitor stompOutboundMonitor, CountDownLatch sendBlocked,
+        CountDownLatch releaseSend) throws Exception {
+        WebSocketSession rawSession = mock(WebSocketSession.class);
+        when(rawSession.getId()).thenReturn(SESSION_ID);
+        doAnswer(invocation -> {
+            sendBlocked.countDown();
+            releaseSend.await(1, TimeUnit.SECONDS);
+            return null;
+        }).when(rawSession).sendMessage(any());
+
+        WebSocketHandler handler = mock(WebSocketHandler.class);
+        stompOutboundMonitor.decorate(handler).afterConnectionEstablished(rawSession);
+
+        ArgumentCaptor<WebSocketSession> sessionCaptor = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(handler).afterConnectionEstablished(sessionCaptor.capture());
+        return sessionCaptor.getValue();
+    }
+
+    private Message<byte[]> message(SimpMessageType messageType) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(messageType);
+        accessor.setSessionId(SESSION_ID);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
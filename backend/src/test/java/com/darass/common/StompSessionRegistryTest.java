@@ -0,0 +1,101 @@
+package com.darass.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+@DisplayName("StompSessionRegistry 클래스")
+class StompSessionRegistryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StompSessionRegistry stompSessionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stompSessionRegistry = new StompSessionRegistry(meterRegistry);
+    }
+
+    @DisplayName("알람 목적지를 구독한 유저를 추적한다.")
+    @Test
+    void subscribe() {
+        stompSessionRegistry.connect(new SessionConnectEvent(this, message(SimpMessageType.CONNECT, "session1")));
+        stompSessionRegistry.subscribe(new SessionSubscribeEvent(this,
+            subscribeMessage("session1", "sub-0", "/queue/main1")));
+        stompSessionRegistry.subscribe(new SessionSubscribeEvent(this,
+            subscribeMessage("session1", "sub-1", "/queue/module1")));
+
+        assertThat(stompSessionRegistry.isAlarmSubscriber(1L)).isTrue();
+        assertThat(stompSessionRegistry.isAlarmSubscriber(2L)).isFalse();
+        assertThat(stompSessionRegistry.hasSubscriber("/queue/main1")).isTrue();
+        assertThat(stompSessionRegistry.getConnectedSessionCount()).isEqualTo(1);
+        assertThat(stompSessionRegistry.getSubscriptionCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("websocket.subscriptions").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("websocket.alarm.subscribed.users").gauge().value()).isEqualTo(1);
+    }
+
+    @DisplayName("구독을 취소하면 해당 목적지의 구독만 지운다.")
+    @Test
+    void unsubscribe() {
+        stompSessionRegistry.subscribe(new SessionSubscribeEvent(this,
+            subscribeMessage("session1", "sub-0", "/queue/main1")));
+        stompSessionRegistry.subscribe(new SessionSubscribeEvent(this,
+            subscribeMessage("session1", "sub-1", "/queue/module1")));
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId("session1");
+        accessor.setSubscriptionId("sub-0");
+        stompSessionRegistry.unsubscribe(new SessionUnsubscribeEvent(this,
+            MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+
+        assertThat(stompSessionRegistry.hasSubscriber("/queue/main1")).isFalse();
+        assertThat(stompSessionRegistry.isAlarmSubscriber(1L)).isTrue();
+    }
+
+    @DisplayName("연결이 끊기면 세션의 구독을 모두 지운다.")
+    @Test
+    void disconnect() {
+        stompSessionRegistry.subscribe(new SessionSubscribeEvent(this,
+            subscribeMessage("session1", "sub-0", "/queue/main1")));
+        stompSessionRegistry.subscribe(new SessionSubscribeEvent(this,
+            subscribeMessage("session2", "sub-0", "/queue/main1")));
+
+        stompSessionRegistry.disconnect(new SessionDisconnectEvent(this,
+            message(SimpMessageType.DISCONNECT, "session1"), "session1", CloseStatus.NORMAL));
+
+        assertThat(stompSessionRegistry.isAlarmSubscriber(1L)).isTrue();
+        assertThat(stompSessionRegistry.getConnectedSessionCount()).isEqualTo(1);
+
+        stompSessionRegistry.disconnect(new SessionDisconnectEvent(this,
+            message(SimpMessageType.DISCONNECT, "session2"), "session2", CloseStatus.NORMAL));
+
+        assertThat(stompSessionRegistry.isAlarmSubscriber(1L)).isFalse();
+        assertThat(stompSessionRegistry.getSubscriptionCount()).isZero();
+    }
+
+    private Message<byte[]> message(SimpMessageType messageType, String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(messageType);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> subscribeMessage(String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,89 @@
+package com.darass.project.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.darass.project.domain.Project;
+import com.darass.project.repository.ProjectRepository;
+import com.darass.user.domain.SocialLoginUser;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+
+@DisplayName("RelayProjectEvictionBroadcaster 클래스")
+class RelayProjectEvictionBroadcasterTest {
+
+    private final List<Node> nodes = new ArrayList<>();
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        SocialLoginUser admin = SocialLoginUser.builder()
+            .id(1L)
+            .nickName("진영")
+            .oauthProvider("kakao")
+            .oauthId("1234")
+            .build();
+        project = Project.builder()
+            .id(1L)
+            .user(admin)
+            .name("네이버 블로그")
+            .build();
+
+        AmqpTemplate inProcessBroker = mock(AmqpTemplate.class);
+        doAnswer(invocation -> {
+            Message message = invocation.getArgument(2);
+            nodes.forEach(node -> node.broadcaster.receive(message));
+            return null;
+        }).when(inProcessBroker).send(anyString(), anyString(), any(Message.class));
+
+        nodes.add(new Node(inProcessBroker, project));
+        nodes.add(new Node(inProcessBroker, project));
+    }
+
+    @DisplayName("한 서버에서 프로젝트 캐시를 비우면 다른 서버의 캐시도 비워진다.")
+    @Test
+    void evict() {
+        nodes.forEach(node -> node.projectCache.findById(project.getId()));
+
+        nodes.get(0).broadcaster.evict(project.getId());
+        nodes.get(1).projectCache.findById(project.getId());
+
+        assertThat(nodes.get(1).projectCache.byIdStats().missCount()).isEqualTo(2L);
+    }
+
+    @DisplayName("한 서버에서 유저의 프로젝트 캐시를 비우면 다른 서버의 캐시도 비워진다.")
+    @Test
+    void evictByUserId() {
+        nodes.forEach(node -> node.projectCache.findBySecretKey(project.getSecretKey()));
+
+        nodes.get(0).broadcaster.evictByUserId(project.getAdminUserId());
+        nodes.get(1).projectCache.findBySecretKey(project.getSecretKey());
+
+        assertThat(nodes.get(1).projectCache.bySecretKeyStats().missCount()).isEqualTo(2L);
+    }
+
+    private static class Node {
+
+        private final ProjectCache projectCache;
+        private final RelayProjectEvictionBroadcaster broadcaster;
+
+        private Node(AmqpTemplate amqpTemplate, Project project) {
+            ProjectRepository projectRepository = mock(ProjectRepository.class);
+            when(projectRepository.findById(project.getId())).thenReturn(Optional.of(project));
+            when(projectRepository.findBySecretKey(project.getSecretKey())).thenReturn(Optional.of(project));
+            this.projectCache = new ProjectCache(projectRepository, 100, 600);
+            this.broadcaster = new RelayProjectEvictionBroadcaster(amqpTemplate, projectCache, "exchange");
+        }
+    }
+}
@@ -87,7 +87,7 @@ class UserAcceptanceTest extends SpringContainerTest { //TODO: 로그아웃 기
 
     @BeforeEach
     public void setUser() { // TODO: 이 부분 로그인 인수테스트로 바꾸기
-        doNothing().when(commentAlarmMachine).sendMessage(any());
+        doNothing().when(commentAlarmMachine).sendPayload(any(), any());
 
         socialLoginUser = SocialLoginUser
             .builder()
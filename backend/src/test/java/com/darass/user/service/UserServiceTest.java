@@ -5,8 +5,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.darass.SpringContainerTest;
 import com.darass.comment.domain.Comment;
 import com.darass.comment.domain.CommentLike;
+import com.darass.comment.infrastructure.CommentThreadCache;
 import com.darass.comment.repository.CommentLikeRepository;
 import com.darass.comment.repository.CommentRepository;
+import com.darass.comment.service.CommentThreadVersionService;
 import com.darass.exception.ExceptionWithMessageAndCode;
 import com.darass.project.domain.Project;
 import com.darass.project.repository.ProjectRepository;
@@ -41,6 +43,12 @@ class UserServiceTest extends SpringContainerTest {
     @Autowired
     private CommentLikeRepository commentLikeRepository;
 
+    @Autowired
+    private CommentThreadCache commentThreadCache;
+
+    @Autowired
+    private CommentThreadVersionService commentThreadVersionService;
+
     private User user;
 
     private SocialLoginUser socialUser;
@@ -113,6 +121,72 @@ class UserServiceTest extends SpringContainerTest {
         assertThat(userResponse.getNickName()).isEqualTo("병욱");
     }
 
+    @Test
+    @DisplayName("update 메서드는 닉네임이 바뀌면, 유저의 댓글이 있는 스레드의 버전을 올린다.")
+    void update_thread_version() {
+        // given
+        Project project = projectRepository.save(Project.builder()
+            .user(user)
+            .name("다른 프로젝트")
+            .description("프로젝트 설명")
+            .build());
+        commentRepository.save(Comment.builder()
+            .user(socialUser)
+            .project(project)
+            .url("url")
+            .content("댓글 내용")
+            .build());
+        commentThreadVersionService.increaseVersion(project.getId(), "url");
+
+        // when
+        userService.update(socialUser.getId(), new UserUpdateRequest("병욱", null, null));
+
+        // then
+        assertThat(commentThreadVersionService.findVersion(project.getId(), "url")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("update 메서드는 닉네임이 바뀌면, 유저가 좋아요를 누른 댓글이 있는 스레드의 버전을 올린다.")
+    void update_thread_version_liked_comment() {
+        // given
+        Project project = projectRepository.save(Project.builder()
+            .user(user)
+            .name("다른 프로젝트")
+            .description("프로젝트 설명")
+            .build());
+        Comment comment = Comment.builder()
+            .user(user)
+            .project(project)
+            .url("url")
+            .content("댓글 내용")
+            .build();
+        comment.addCommentLike(CommentLike.builder()
+            .user(socialUser)
+            .comment(comment)
+            .build());
+        commentRepository.save(comment);
+        commentThreadVersionService.increaseVersion(project.getId(), "url");
+
+        // when
+        userService.update(socialUser.getId(), new UserUpdateRequest("병욱", null, null));
+
+        // then
+        assertThat(commentThreadVersionService.findVersion(project.getId(), "url")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("update 메서드는 닉네임과 프로필 이미지가 바뀌지 않으면, 댓글 스레드 캐시를 비우지 않는다.")
+    void update_without_profile_change() {
+        // given
+        long invalidationCount = commentThreadCache.getInvalidationCount();
+
+        // when
+        userService.update(socialUser.getId(), new UserUpdateRequest(null, null, false));
+
+        // then
+        assertThat(commentThreadCache.getInvalidationCount()).isEqualTo(invalidationCount);
+    }
+
     @Test
     @DisplayName("updateNickName 메서드는 올바르지 않은 유저 id가 주어지면, 예외를 던진다.")
     void updateNickName_exception() {
@@ -130,4 +204,25 @@ class UserServiceTest extends SpringContainerTest {
         // then
         assertThat(userRepository.findById(user.getId()).isPresent()).isFalse();
     }
+
+    @Test
+    @DisplayName("deleteById 메서드는 삭제한 유저가 좋아요를 누른 댓글의 좋아요 수를 줄인다.")
+    void deleteById_like_count() {
+        Comment comment = Comment.builder()
+            .user(socialUser)
+            .url("url")
+            .content("다른 유저의 댓글")
+            .build();
+        comment.addCommentLike(CommentLike.builder()
+            .user(user)
+            .comment(comment)
+            .build());
+        commentRepository.save(comment);
+
+        userService.deleteById(user.getId());
+
+        assertThat(commentRepository.findById(comment.getId()))
+            .map(Comment::getLikeCount)
+            .hasValue(0);
+    }
 }
\ No newline at end of file
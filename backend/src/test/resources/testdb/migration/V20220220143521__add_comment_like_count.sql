@@ -0,0 +1,8 @@
+alter table comment
+    add like_count int not null default 0;
+
+update comment c
+set like_count = (select count(*) from comment_like cl where cl.comment_id = c.id);
+
+create index comment_idx_project_url_parent_like_count
+    on comment (project_id, url, parent_id, like_count, id);
@@ -0,0 +1,11 @@
+create table comment_thread_version
+(
+    id         bigint not null auto_increment,
+    project_id bigint,
+    url        varchar(255),
+    version    bigint not null default 0,
+    primary key (id)
+);
+
+alter table comment_thread_version
+    add constraint comment_thread_version_uk_project_url unique (project_id, url);
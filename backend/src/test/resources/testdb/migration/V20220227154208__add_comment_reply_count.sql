@@ -0,0 +1,5 @@
+alter table comment
+    add reply_count int not null default 0;
+
+update comment c
+set reply_count = (select count(*) from comment s where s.parent_id = c.id);
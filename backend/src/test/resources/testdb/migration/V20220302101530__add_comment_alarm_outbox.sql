@@ -0,0 +1,15 @@
+create table comment_alarm_outbox
+(
+    id               bigint not null auto_increment,
+    comment_alarm_id bigint not null,
+    attempt_count    int    not null default 0,
+    created_date     TIMESTAMP,
+    modified_date    TIMESTAMP,
+    primary key (id)
+);
+
+alter table comment_alarm_outbox
+    add constraint comment_alarm_outbox_fk_comment_alarm
+        foreign key (comment_alarm_id)
+            references comment_alarm (id)
+            on delete cascade;
@@ -0,0 +1,12 @@
+create table comment_alarm_unread_state
+(
+    user_id              bigint not null,
+    unread_count         int    not null default 0,
+    last_seen_alarm_id   bigint not null default 0,
+    primary key (user_id)
+);
+
+insert into comment_alarm_unread_state (user_id, unread_count, last_seen_alarm_id)
+select id, 1, 0
+from user
+where has_recent_alarm = true;
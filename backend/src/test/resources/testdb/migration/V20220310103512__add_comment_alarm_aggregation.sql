@@ -0,0 +1,18 @@
+alter table comment_alarm
+    add target_comment_id bigint;
+
+alter table comment_alarm
+    add sender_count int not null default 1;
+
+alter table comment_alarm
+    add recent_sender_ids varchar(255);
+
+update comment_alarm
+set recent_sender_ids = sender_id
+where sender_id is not null;
+
+create index comment_alarm_idx_target_comment
+    on comment_alarm (target_comment_id, receiver_id, created_date);
+
+alter table comment_alarm_outbox
+    add dispatch_after TIMESTAMP;
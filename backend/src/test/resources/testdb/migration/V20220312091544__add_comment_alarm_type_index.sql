@@ -0,0 +1,2 @@
+create index comment_alarm_idx_type_created_date
+    on comment_alarm (comment_alarm_type, created_date);
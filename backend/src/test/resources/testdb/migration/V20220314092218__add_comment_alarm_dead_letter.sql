@@ -0,0 +1,11 @@
+create table comment_alarm_dead_letter
+(
+    id               bigint not null auto_increment,
+    comment_alarm_id bigint not null,
+    receiver_id      bigint,
+    payload          varchar(2000),
+    attempt_count    int    not null default 0,
+    created_date     TIMESTAMP,
+    modified_date    TIMESTAMP,
+    primary key (id)
+);